@@ -28,6 +28,8 @@ package com.devoxx.model;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.beans.property.StringProperty;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
 
@@ -110,15 +112,24 @@ public class Badge extends Searchable {
         return s == null? "": s.trim();
     }
 
+    /**
+     * Returns the trimmed, non null values of the fields exported for this badge,
+     * in the same order as the CSV header
+     * @return a list with the exported fields
+     */
+    public List<String> getCSVFields() {
+        List<String> fields = new ArrayList<>();
+        fields.add(safeStr(getBadgeId()));
+        fields.add(safeStr(getFirstName()));
+        fields.add(safeStr(getLastName()));
+        fields.add(safeStr(getCompany()));
+        fields.add(safeStr(getEmail()));
+        fields.add(safeStr(getDetails()));
+        return fields;
+    }
+
     public String toCSV() {
-        StringBuilder csv = new StringBuilder();
-        csv.append(safeStr(getBadgeId()));
-        csv.append(",").append(safeStr(getFirstName()));
-        csv.append(",").append(safeStr(getLastName()));
-        csv.append(",").append(safeStr(getCompany()));
-        csv.append(",").append(safeStr(getEmail()));
-        csv.append(",").append(safeStr(getDetails()));
-        return csv.toString();
+        return String.join(",", getCSVFields());
     }
     
 }
@@ -45,6 +45,7 @@ public class Session extends Searchable {
     private Talk talk;
     private boolean decorated;
     private boolean showSessionType;
+    private SessionDisplay display;
 
     public Session() {}
 
@@ -83,6 +84,7 @@ public class Session extends Searchable {
 
     public void setRoomName(String roomName) {
         this.roomName = roomName;
+        this.display = null;
     }
 
     public String getDay() {
@@ -116,6 +118,7 @@ public class Session extends Searchable {
 
     public void setStartDate(ZonedDateTime startDate) {
         this.startDate = startDate;
+        this.display = null;
     }
 
     public String getToTime() {
@@ -141,6 +144,7 @@ public class Session extends Searchable {
 
     public void setEndDate(ZonedDateTime endDate) {
         this.endDate = endDate;
+        this.display = null;
     }
 
     public Break getBreak() {
@@ -149,6 +153,7 @@ public class Session extends Searchable {
 
     public void setBreak(Break aBreak) {
         this.aBreak = aBreak;
+        this.display = null;
     }
 
     public Talk getTalk() {
@@ -157,6 +162,7 @@ public class Session extends Searchable {
 
     public void setTalk(Talk talk) {
         this.talk = talk;
+        this.display = null;
     }
 
     public boolean isDecorated() {
@@ -175,6 +181,18 @@ public class Session extends Searchable {
         this.showSessionType = showSessionType;
     }
 
+    /**
+     * @return the display strings of the session, computed on first use and
+     * again after any change of the room, dates, break or talk
+     */
+    @XmlTransient
+    public SessionDisplay getDisplay() {
+        if (display == null || !display.isValid()) {
+            display = new SessionDisplay(this);
+        }
+        return display;
+    }
+
     @Override
     public boolean contains(String keyword) {
         if (keyword == null || keyword.isEmpty()) {
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2018, Gluon Software
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the
+ * following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation and/or other materials provided
+ *    with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse
+ *    or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES,
+ * INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.devoxx.model;
+
+import com.devoxx.util.DevoxxBundle;
+import com.devoxx.util.DevoxxSettings;
+
+import java.time.temporal.TemporalAccessor;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Display strings of a session, as shown in the schedule lists.
+ *
+ * They are computed once, when the session is first shown, and reused every
+ * time a cell is bound to the same session. A new instance is created if
+ * the default locale changes.
+ */
+public class SessionDisplay {
+
+    private final Locale locale;
+    private final String trackId;
+    private final String speakers;
+    private final String timeAndPlace;
+    private final String date;
+
+    SessionDisplay(Session session) {
+        locale = Locale.getDefault();
+        Talk talk = session.getTalk();
+        if (talk != null) {
+            trackId = talk.getTrack() != null && talk.getTrackId() != null ? talk.getTrackId().toUpperCase() : null;
+            speakers = talk.getSpeakers() != null ? joinSpeakers(talk.getSpeakers()) : "";
+            timeAndPlace = DevoxxBundle.getString("OTN.SCHEDULE.IN_AT", session.getRoomName(),
+                    formatTime(session.getStartDate()), formatTime(session.getEndDate()));
+        } else {
+            trackId = null;
+            speakers = "";
+            timeAndPlace = DevoxxBundle.getString("OTN.SCHEDULE.IN_AT_BREAK",
+                    formatTime(session.getStartDate()), formatTime(session.getEndDate()));
+        }
+        date = session.getStartDate() != null ? DevoxxSettings.DATE_FORMATTER.format(session.getStartDate()) : "";
+    }
+
+    /**
+     * @return the upper case id of the track of the talk, or null if it has none
+     */
+    public String getTrackId() {
+        return trackId;
+    }
+
+    /**
+     * @return the comma separated names of the speakers of the talk
+     */
+    public String getSpeakers() {
+        return speakers;
+    }
+
+    /**
+     * @return the room and the start and end times of the session
+     */
+    public String getTimeAndPlace() {
+        return timeAndPlace;
+    }
+
+    /**
+     * @return the formatted date of the session
+     */
+    public String getDate() {
+        return date;
+    }
+
+    boolean isValid() {
+        return locale.equals(Locale.getDefault());
+    }
+
+    private static String formatTime(TemporalAccessor time) {
+        return time == null ? "" : DevoxxSettings.TIME_FORMATTER.format(time);
+    }
+
+    private static String joinSpeakers(List<TalkSpeaker> talkSpeakers) {
+        StringBuilder names = new StringBuilder();
+        for (TalkSpeaker speaker : talkSpeakers) {
+            if (names.length() > 0) {
+                names.append(", ");
+            }
+            names.append(speaker.getName());
+        }
+        return names.toString();
+    }
+}
@@ -28,6 +28,7 @@ package com.devoxx.model;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.SimpleObjectProperty;
 
+import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
 
@@ -93,9 +94,9 @@ public class SponsorBadge extends Badge {
     }
 
     @Override
-    public String toCSV() {
-        StringBuilder csv = new StringBuilder(super.toCSV());
-        csv.append(",").append(safeStr(getSponsor().getName()));
-        return csv.toString();
+    public List<String> getCSVFields() {
+        List<String> fields = super.getCSVFields();
+        fields.add(getSponsor() == null ? "" : safeStr(getSponsor().getName()));
+        return fields;
     }
 }
@@ -25,9 +25,12 @@
  */
 package com.devoxx.model;
 
+import javax.xml.bind.annotation.XmlTransient;
+
 public class TalkSpeaker {
     private Link link;
     private String name;
+    private String speakerUuid;
 
     public Link getLink() {
         return link;
@@ -35,6 +38,19 @@ public class TalkSpeaker {
 
     public void setLink(Link link) {
         this.link = link;
+        this.speakerUuid = null;
+    }
+
+    /**
+     * @return the uuid of the speaker, the last segment of the href of the link,
+     * or null if the link has no href
+     */
+    @XmlTransient
+    public String getSpeakerUuid() {
+        if (speakerUuid == null && link != null && link.getHref() != null && !link.getHref().isEmpty()) {
+            speakerUuid = link.getHref().substring(link.getHref().lastIndexOf('/') + 1);
+        }
+        return speakerUuid;
     }
 
     public String getName() {
@@ -95,6 +95,17 @@ public class DevoxxSettings {
      */
     public final static int PROCESSING_TIME_OUT = 15; // seconds
 
+    /**
+     * Interval in seconds between two refreshes of the favorite counts,
+     * while the app is in the foreground and the conference is not from the past
+     */
+    public final static int FAVORITES_REFRESH_INTERVAL = 60; // seconds
+
+    /**
+     * Delay in seconds before the edits of the notes are applied and persisted
+     */
+    public final static int NOTES_FLUSH_DELAY = 10; // seconds
+
     /**
      * URL to submit review on App Store
      */
@@ -35,6 +35,13 @@ public class WearableConstants {
     public static final String ERROR_PATH = "/error";
     public static final String DATAMAP_TIMESTAMP = "timestamp";
     public static final String DATAMAP_ERROR = "error";
+
+    // mobiles that set DATAMAP_REQUEST_ID_SUPPORTED in their responses receive
+    // request paths ending in REQUEST_ID_PATH + request id, and return that id
+    // in DATAMAP_REQUEST_ID, so each response reaches the handler of its request
+    public static final String REQUEST_ID_PATH = "/request_id/";
+    public static final String DATAMAP_REQUEST_ID = "request_id";
+    public static final String DATAMAP_REQUEST_ID_SUPPORTED = "request_id_supported";
     
     // conference selector
     public static final String CONFERENCES_PATH = "/conferences";
@@ -54,6 +61,8 @@ public class WearableConstants {
     public static final String DATAMAP_SESSION_FROM_TIME = "session_from_time";
     public static final String DATAMAP_SESSION_TO_TIME = "session_to_time";
     public static final String DATAMAP_SESSION_TITLE = "session_title";
+    public static final String DATAMAP_SESSIONS_VERSION = "sessions_version";
+    public static final String DATAMAP_SESSIONS_NOT_MODIFIED = "sessions_not_modified";
     
     // session
     public static final String SESSION_FAV_PATH = "/session_fav";
@@ -62,12 +71,18 @@ public class WearableConstants {
     
     public static final String SESSION_SET_FAV_PATH = "/session_set_fav";
     public static final String SESSION_SUMMARY_PATH = "/session_summary";
+
+    // summary, favorite state and speakers of a session in one response:
+    // OBJECT_PATH holds the summary and favorite state, LIST_PATH the speakers
+    public static final String SESSION_DETAILS_PATH = "/session_details";
     
     // speakers
     public static final String SPEAKERS_PATH = "/speakers";
     public static final String DATAMAP_SPEAKER_FIRST_NAME = "speaker_first_name";
     public static final String DATAMAP_SPEAKER_LAST_NAME = "speaker_last_name";
     public static final String DATAMAP_SPEAKER_IMAGE = "speaker_image";
+    public static final String DATAMAP_SPEAKER_IMAGE_ASSET = "speaker_image_asset";
+    public static final String DATAMAP_SPEAKER_IMAGE_HASH = "speaker_image_hash";
     public static final String DATAMAP_SPEAKER_TWITTER = "speaker_twitter";
     
     // twitter
@@ -27,10 +27,7 @@ package com.devoxx;
 
 import static com.devoxx.DevoxxView.SEARCH;
 
-import java.io.BufferedWriter;
 import java.io.File;
-import java.io.FileWriter;
-import java.io.IOException;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.time.format.FormatStyle;
@@ -39,23 +36,24 @@ import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import com.airhacks.afterburner.injection.Injector;
-import com.devoxx.model.Badge;
 import com.devoxx.model.BadgeType;
 import com.devoxx.model.Conference;
 import com.devoxx.model.Sponsor;
-import com.devoxx.model.SponsorBadge;
 import com.devoxx.service.DevoxxService;
 import com.devoxx.service.JavaConfService;
 import com.devoxx.service.Service;
+import com.devoxx.util.BadgesCsvExporter;
 import com.devoxx.util.DevoxxBundle;
 import com.devoxx.util.DevoxxCountry;
 import com.devoxx.util.DevoxxLogging;
 import com.devoxx.util.DevoxxNotifications;
 import com.devoxx.util.DevoxxSearch;
 import com.devoxx.util.DevoxxSettings;
+import com.devoxx.util.StartupProfiler;
 import com.devoxx.util.Strings;
 import com.devoxx.views.SessionsPresenter;
 import com.devoxx.views.helper.ConnectivityUtils;
+import com.devoxx.views.helper.Placeholder;
 import com.devoxx.views.helper.SessionVisuals;
 import com.devoxx.views.layer.ConferenceLoadingLayer;
 import com.gluonhq.charm.down.Platform;
@@ -69,14 +67,20 @@ import com.gluonhq.charm.down.plugins.StorageService;
 import com.gluonhq.charm.glisten.afterburner.AppView;
 import com.gluonhq.charm.glisten.afterburner.GluonInstanceProvider;
 import com.gluonhq.charm.glisten.application.MobileApplication;
+import com.gluonhq.charm.glisten.control.Dialog;
 import com.gluonhq.charm.glisten.visual.MaterialDesignIcon;
 import com.gluonhq.cloudlink.client.usage.UsageClient;
 
+import javafx.animation.AnimationTimer;
 import javafx.beans.value.ChangeListener;
 import javafx.beans.value.ObservableValue;
+import javafx.concurrent.Task;
 import javafx.scene.Scene;
 import javafx.scene.control.Button;
+import javafx.scene.control.Label;
+import javafx.scene.control.ProgressBar;
 import javafx.scene.image.Image;
+import javafx.scene.layout.VBox;
 import javafx.stage.Stage;
 import javafx.stage.Window;
 
@@ -105,20 +109,24 @@ public class DevoxxApplication extends MobileApplication {
 
     @Override
     public void init() {
+        StartupProfiler.start();
 
         // Config logging
         DevoxxLogging.config();
-
-        new UsageClient().enable();
+        StartupProfiler.mark("logging");
 
         // start service data preloading as soon as possible
         service = Injector.instantiateModelOrService(Service.class);
+        StartupProfiler.mark("service");
 
         Injector.instantiateModelOrService(DevoxxNotifications.class);
+        StartupProfiler.mark("notifications");
 
+        // registering a view only adds its factory, views are built on first use
         for (AppView view : DevoxxView.REGISTRY.getViews()) {
             view.registerView(this);
         }
+        StartupProfiler.mark("views");
 
         Services.get(SettingsService.class).ifPresent(settings -> {
             String sign = settings.retrieve(DevoxxSettings.SIGN_UP);
@@ -189,6 +197,7 @@ public class DevoxxApplication extends MobileApplication {
                 if (newValue) {
                     initConnectivityServices();
                     scene.getWindow().showingProperty().removeListener(this);
+                    runAfterFirstFrame(() -> initDeferredServices());
                 }
             }
         });
@@ -197,6 +206,37 @@ public class DevoxxApplication extends MobileApplication {
             Services.get(SettingsService.class).ifPresent(settings -> settings.remove(DevoxxSettings.SIGN_UP));
             DevoxxView.SESSIONS.switchView().ifPresent(s -> ((SessionsPresenter) s).selectFavorite());
         }
+        StartupProfiler.mark("postInit");
+    }
+
+    private void runAfterFirstFrame(Runnable runnable) {
+        new AnimationTimer() {
+            private int pulses;
+
+            @Override
+            public void handle(long now) {
+                // by the second pulse the first frame has been rendered
+                if (++pulses > 1) {
+                    stop();
+                    runnable.run();
+                }
+            }
+        }.start();
+    }
+
+    /**
+     * Work that is not needed for the first screen
+     */
+    private void initDeferredServices() {
+        StartupProfiler.mark("firstFrame");
+
+        service.enablePushNotifications();
+        StartupProfiler.mark("push");
+
+        new UsageClient().enable();
+        StartupProfiler.finish("usage");
+
+        DevoxxView.preloadViews(this);
     }
 
     private void addOrRemoveVoxxedStylesheet(Scene scene, Conference conference, String voxxedStylesheet) {
@@ -239,44 +279,87 @@ public class DevoxxApplication extends MobileApplication {
     
     public Button getShareButton(BadgeType badgeType, Sponsor sponsor) {
         return MaterialDesignIcon.SHARE.button(e -> {
-            Services.get(ShareService.class).ifPresent(s -> {
-                File root = Services.get(StorageService.class).flatMap(storage -> storage.getPublicStorage("Documents")).orElse(null);
-                if (root != null) {
-                    if (!root.exists()) {
-                        root.mkdirs();
-                    }
-                    File file = new File(root, "Devoxx" + DevoxxCountry.getConfShortName(service.getConference().getCountry()) + "-badges.csv");
-                    if (file.exists()) {
-                        file.delete();
-                    }
-                    try (BufferedWriter writer = new BufferedWriter(new FileWriter(file))) {
-                        if (BadgeType.ATTENDEE == badgeType) {
-                            writer.write("ID,First Name,Last Name,Company,Email,Details");
-                            writer.newLine();
-                            for (Badge badge : service.retrieveBadges()) {
-                                writer.write(badge.toCSV());
-                                writer.newLine();
-                            }
-                        } else if (BadgeType.SPONSOR == badgeType) {
-                            writer.write("ID,First Name,Last Name,Company,Email,Details,Slug");
-                            writer.newLine();
-                            for (SponsorBadge badge : service.retrieveSponsorBadges(sponsor)) {
-                                writer.write(badge.toCSV());
-                                writer.newLine();
-                            }
-                        } else {
-                            LOG.log(Level.WARNING, "Error invalid badgeType: " + badgeType);
-                        }
-                    } catch (IOException ex) {
-                        LOG.log(Level.WARNING, "Error writing csv file ", ex);
-                    }
-                    s.share(DevoxxBundle.getString("OTN.BADGES.SHARE.SUBJECT", service.getConference().getName()),
-                            DevoxxBundle.getString("OTN.BADGES.SHARE.MESSAGE", service.getConference().getName(), DateTimeFormatter.ofLocalizedDate(FormatStyle.SHORT).format(LocalDate.now())),
-                            "text/plain", file);
-                } else {
-                    LOG.log(Level.WARNING, "Error accessing local storage");
-                }
-            });
+            if (! Services.get(ShareService.class).isPresent()) {
+                return;
+            }
+            File root = Services.get(StorageService.class).flatMap(storage -> storage.getPublicStorage("Documents")).orElse(null);
+            if (root == null) {
+                LOG.log(Level.WARNING, "Error accessing local storage");
+                return;
+            }
+            if (!root.exists()) {
+                root.mkdirs();
+            }
+            final BadgesCsvExporter exporter;
+            final String exportId = service.getConference().getId();
+            if (BadgeType.ATTENDEE == badgeType) {
+                exporter = new BadgesCsvExporter("ID,First Name,Last Name,Company,Email,Details",
+                        service.retrieveBadges(), exportId + "_" + badgeType.name());
+            } else if (BadgeType.SPONSOR == badgeType) {
+                exporter = new BadgesCsvExporter("ID,First Name,Last Name,Company,Email,Details,Slug",
+                        service.retrieveSponsorBadges(sponsor), exportId + "_" + sponsor.getSlug());
+            } else {
+                LOG.log(Level.WARNING, "Error invalid badgeType: " + badgeType);
+                return;
+            }
+            File file = new File(root, "Devoxx" + DevoxxCountry.getConfShortName(service.getConference().getCountry()) + "-badges.csv");
+
+            long newBadges = exporter.countNewBadges();
+            if (newBadges > 0 && exporter.hasExportedBadges()) {
+                Dialog<Button> dialog = new Dialog<>();
+                Placeholder content = new Placeholder(DevoxxBundle.getString("OTN.BADGES.EXPORT.DIALOG.TITLE"),
+                        DevoxxBundle.getString("OTN.BADGES.EXPORT.DIALOG.CONTENT", newBadges), MaterialDesignIcon.HELP);
+                content.setPrefWidth(getView().getScene().getWidth() - 40);
+                dialog.setContent(content);
+                Button allButton = new Button(DevoxxBundle.getString("OTN.BADGES.EXPORT.DIALOG.ALL"));
+                Button newButton = new Button(DevoxxBundle.getString("OTN.BADGES.EXPORT.DIALOG.NEW"));
+                allButton.setOnAction(ev -> {
+                    dialog.setResult(allButton);
+                    dialog.hide();
+                });
+                newButton.setOnAction(ev -> {
+                    dialog.setResult(newButton);
+                    dialog.hide();
+                });
+                dialog.getButtons().addAll(allButton, newButton);
+                dialog.showAndWait()
+                        .ifPresent(button -> exportBadges(exporter, file, button == newButton));
+            } else {
+                exportBadges(exporter, file, false);
+            }
         }); 
     }
+
+    private void exportBadges(BadgesCsvExporter exporter, File file, boolean onlyNew) {
+        Task<File> task = exporter.export(file, onlyNew);
+
+        Dialog<Button> dialog = new Dialog<>();
+        ProgressBar progressBar = new ProgressBar();
+        progressBar.progressProperty().bind(task.progressProperty());
+        progressBar.setMaxWidth(Double.MAX_VALUE);
+        VBox content = new VBox(10, new Label(DevoxxBundle.getString("OTN.BADGES.EXPORT.PROGRESS")), progressBar);
+        content.setPrefWidth(getView().getScene().getWidth() - 40);
+        dialog.setContent(content);
+        Button cancelButton = new Button(DevoxxBundle.getString("OTN.BADGES.EXPORT.CANCEL"));
+        cancelButton.setOnAction(ev -> {
+            task.cancel();
+            dialog.hide();
+        });
+        dialog.getButtons().add(cancelButton);
+
+        task.setOnSucceeded(ev -> {
+            dialog.hide();
+            if (task.getValue() != null) {
+                Services.get(ShareService.class).ifPresent(s ->
+                        s.share(DevoxxBundle.getString("OTN.BADGES.SHARE.SUBJECT", service.getConference().getName()),
+                                DevoxxBundle.getString("OTN.BADGES.SHARE.MESSAGE", service.getConference().getName(), DateTimeFormatter.ofLocalizedDate(FormatStyle.SHORT).format(LocalDate.now())),
+                                "text/plain", task.getValue()));
+            }
+        });
+        task.setOnFailed(ev -> {
+            dialog.hide();
+            LOG.log(Level.WARNING, "Error writing csv file ", task.getException());
+        });
+        dialog.showAndWait();
+    }
 }
@@ -30,6 +30,7 @@ import com.devoxx.views.*;
 import com.gluonhq.charm.glisten.afterburner.AppView;
 import com.gluonhq.charm.glisten.afterburner.AppViewRegistry;
 import com.gluonhq.charm.glisten.afterburner.GluonPresenter;
+import com.gluonhq.charm.glisten.application.MobileApplication;
 import com.gluonhq.charm.glisten.mvc.View;
 import com.gluonhq.charm.glisten.visual.MaterialDesignIcon;
 
@@ -64,6 +65,12 @@ public class DevoxxView {
     public static final AppView VOTE            = view( VotePresenter.class,           MaterialDesignIcon.THUMBS_UP_DOWN,     SKIP_VIEW_STACK);
     // public static final AppView LEADERBOARD     = view( LeaderboardPresenter.class,    MaterialDesignIcon.STARS, SHOW_IN_DRAWER);
 
+    /**
+     * Views that are usually shown right after the start view. They are built
+     * once the application is idle, instead of on first navigation.
+     */
+    private static final AppView[] PRELOADED_VIEWS = { SESSION, SPEAKERS, SPEAKER };
+
     private static AppView view(Class<? extends GluonPresenter<?>> presenterClass, MaterialDesignIcon menuIcon, AppView.Flag... flags ) {
         return REGISTRY.createView( name(presenterClass),
                                     DevoxxBundle.getString( "OTN.VIEW." + name(presenterClass)),
@@ -80,4 +87,8 @@ public class DevoxxView {
         return REGISTRY.getView(view);
     }
 
+    static void preloadViews(MobileApplication application) {
+        new ViewPreloader(application, PRELOADED_VIEWS).start();
+    }
+
 }
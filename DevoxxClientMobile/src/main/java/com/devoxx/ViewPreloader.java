@@ -0,0 +1,79 @@
+/**
+ * Copyright (c) 2018, Gluon Software
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the
+ * following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation and/or other materials provided
+ *    with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse
+ *    or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES,
+ * INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.devoxx;
+
+import com.gluonhq.charm.glisten.afterburner.AppView;
+import com.gluonhq.charm.glisten.application.MobileApplication;
+import javafx.animation.PauseTransition;
+import javafx.util.Duration;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Builds registered views ahead of their first use, one at a time,
+ * leaving some idle time on the FX thread between two of them.
+ * Views that were already built, i.e. by navigating to them, are skipped.
+ */
+class ViewPreloader {
+
+    private static final Logger LOG = Logger.getLogger(ViewPreloader.class.getName());
+
+    private static final Duration IDLE_TIME = Duration.millis(500);
+
+    private final MobileApplication application;
+    private final Queue<AppView> queue;
+    private final PauseTransition idle = new PauseTransition(IDLE_TIME);
+
+    ViewPreloader(MobileApplication application, AppView... views) {
+        this.application = application;
+        this.queue = new ArrayDeque<>(Arrays.asList(views));
+        idle.setOnFinished(e -> preloadNext());
+    }
+
+    void start() {
+        idle.playFromStart();
+    }
+
+    private void preloadNext() {
+        AppView view = queue.poll();
+        if (view == null) {
+            return;
+        }
+        try {
+            // retrieveView builds the view with its factory only if it is not cached yet
+            application.retrieveView(view.getId());
+        } catch (Exception e) {
+            LOG.log(Level.WARNING, "Error preloading view " + view.getId(), e);
+        }
+        if (!queue.isEmpty()) {
+            idle.playFromStart();
+        }
+    }
+}
@@ -27,15 +27,20 @@ package com.devoxx.service;
 
 import com.airhacks.afterburner.injection.Injector;
 import com.devoxx.model.*;
+import com.devoxx.util.ConferenceTimeline;
 import com.devoxx.util.DevoxxBundle;
 import com.devoxx.util.DevoxxNotifications;
 import com.devoxx.util.DevoxxSettings;
+import com.devoxx.util.JournaledList;
+import com.devoxx.util.LocalSettingsStore;
+import com.devoxx.util.RemoteFunctionMetrics;
 import com.devoxx.views.helper.Placeholder;
 import com.devoxx.views.helper.SessionVisuals.SessionListType;
-import com.devoxx.views.helper.Util;
 import com.devoxx.views.layer.ConferenceLoadingLayer;
 import com.gluonhq.charm.down.Services;
 import com.gluonhq.charm.down.plugins.DeviceService;
+import com.gluonhq.charm.down.plugins.LifecycleEvent;
+import com.gluonhq.charm.down.plugins.LifecycleService;
 import com.gluonhq.charm.down.plugins.RuntimeArgsService;
 import com.gluonhq.charm.down.plugins.SettingsService;
 import com.gluonhq.charm.down.plugins.StorageService;
@@ -54,6 +59,10 @@ import com.gluonhq.connect.GluonObservableObject;
 import com.gluonhq.connect.converter.JsonInputConverter;
 import com.gluonhq.connect.converter.JsonIterableInputConverter;
 import com.gluonhq.connect.provider.DataProvider;
+import javafx.animation.Animation;
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
+import javafx.application.Platform;
 import javafx.beans.Observable;
 import javafx.beans.binding.Bindings;
 import javafx.beans.property.*;
@@ -62,32 +71,48 @@ import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.concurrent.Task;
 import javafx.scene.control.Button;
+import javafx.util.Duration;
+
+import javax.json.Json;
+import javax.json.JsonException;
+import javax.json.JsonObject;
+import javax.json.JsonReader;
+import javax.json.JsonString;
+import javax.json.JsonValue;
 
 import java.io.*;
 import java.time.Instant;
-import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import static com.devoxx.util.DevoxxSettings.LOCAL_NOTIFICATION_RATING;
 import static com.devoxx.util.DevoxxSettings.SESSION_FILTER;
 import static com.devoxx.views.helper.Util.*;
-import static java.time.temporal.ChronoUnit.SECONDS;
 
 public class DevoxxService implements Service {
 
     private static final Logger LOG = Logger.getLogger(DevoxxService.class.getName());
     private static final String REMOTE_FUNCTION_FAILED_MSG = "Remote function '%s' failed.";
+    private static final String SESSIONS_LOAD_TIME = "sessions_load_time";
+    private static final String JOURNALS_DIR = "journals";
+    // weight of the last load time in the moving average
+    private static final double SESSIONS_LOAD_TIME_WEIGHT = 0.3;
 
 //    private static final String DEVOXX_CFP_DATA_URL = "https://s3-eu-west-1.amazonaws.com/cfpdevoxx/cfp.json";
 
@@ -103,8 +128,10 @@ public class DevoxxService implements Service {
                     LOG.log(Level.INFO, ">>> received a silent push notification with contents: " + f);
                     LOG.log(Level.INFO, "[DBG] writing reload file");
                     File file = new File (rootDir, DevoxxSettings.RELOAD);
-                    try (BufferedWriter br = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file)))) {
-                        br.write(f);
+                    // payloads are appended, one per line, until the reload is processed
+                    try (BufferedWriter br = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file, true)))) {
+                        br.write(f == null ? "" : f.replaceAll("[\\r\\n]+", " "));
+                        br.newLine();
                         LOG.log(Level.INFO, "[DBG] writing silent notification file done");
                     } catch (IOException ex) {
                         LOG.log(Level.SEVERE, null, ex);
@@ -114,7 +141,7 @@ public class DevoxxService implements Service {
             });
 
             // Remove Sessions filter key-value
-            Services.get(SettingsService.class).ifPresent(ss -> ss.remove(SESSION_FILTER));
+            LocalSettingsStore.clear(SESSION_FILTER);
         } catch (IOException ex) {
             LOG.log(Level.SEVERE, null, ex);
         }
@@ -139,6 +166,9 @@ public class DevoxxService implements Service {
     private final ReadOnlyListWrapper<Session> sessions = new ReadOnlyListWrapper<>(FXCollections.observableArrayList());
     private final AtomicBoolean retrievingSessions = new AtomicBoolean(false);
     private final AtomicBoolean retrievingFavoriteSessions = new AtomicBoolean(false);
+    private ConferenceTimeline conferenceTimeline;
+    private ScheduleIndex scheduleIndex;
+    private final ReadOnlyObjectWrapper<LoadState> sessionsLoadState = new ReadOnlyObjectWrapper<>(LoadState.REFRESHING);
 
     private final ReadOnlyListWrapper<Speaker> speakers = new ReadOnlyListWrapper<>(FXCollections.observableArrayList());
     private final AtomicBoolean retrievingSpeakers = new AtomicBoolean(false);
@@ -150,19 +180,68 @@ public class DevoxxService implements Service {
     // user specific data
     private ObservableList<Session> favoredSessions;
     private ObservableList<Note> notes;
+    private Map<String, Note> notesIndex = new HashMap<>();
+    private final Map<String, String> pendingNotes = new LinkedHashMap<>();
+    private final Timeline notesFlush;
     private ObservableList<Badge> badges;
     private ObservableList<SponsorBadge> sponsorBadges;
+    private Map<String, Badge> badgesIndex = new HashMap<>();
+    private Map<String, SponsorBadge> sponsorBadgesIndex = new HashMap<>();
+    private SponsorBadgeOutbox sponsorBadgeOutbox;
+    private final SessionPrefetcher sessionPrefetcher = new SessionPrefetcher(this);
+    private final Map<String, GluonObservableObject<Speaker>> speakerRequests = new HashMap<>();
 
-    private GluonObservableObject<Favorites> allFavorites;
+    private GluonObservableObject<FavoritesDelta> allFavorites;
     private ListChangeListener<Session> internalFavoredSessionsListener = null;
     private ObservableList<Session> internalFavoredSessions = FXCollections.observableArrayList();
     private ObservableList<Favorite> favorites = FXCollections.observableArrayList();
+    private final Map<String, Favorite> favoritesIndex = new HashMap<>();
+    private String favoritesVersion;
+    private final Timeline favoritesRefresh;
+    private boolean paused;
 
     public DevoxxService() {
 
         allFavorites = new GluonObservableObject<>();
         allFavorites.setState(ConnectState.SUCCEEDED);
 
+        // derived schedule facts are computed again after any change of the sessions
+        sessions.addListener((ListChangeListener<Session>) c -> {
+            conferenceTimeline = null;
+            scheduleIndex = null;
+        });
+        speakers.addListener((ListChangeListener<Speaker>) c -> scheduleIndex = null);
+
+        // favorites can be added from outside the service (see SessionVisuals#getFavoriteFor)
+        favorites.addListener((ListChangeListener<Favorite>) c -> {
+            while (c.next()) {
+                for (Favorite favorite : c.getRemoved()) {
+                    favoritesIndex.remove(favorite.getId());
+                }
+                for (Favorite favorite : c.getAddedSubList()) {
+                    favoritesIndex.put(favorite.getId(), favorite);
+                }
+            }
+        });
+
+        favoritesRefresh = new Timeline(new KeyFrame(Duration.seconds(DevoxxSettings.FAVORITES_REFRESH_INTERVAL), e -> refreshFavorites()));
+        favoritesRefresh.setCycleCount(Animation.INDEFINITE);
+
+        notesFlush = new Timeline(new KeyFrame(Duration.seconds(DevoxxSettings.NOTES_FLUSH_DELAY), e -> flushNotes()));
+
+        Services.get(LifecycleService.class).ifPresent(lifecycleService -> {
+            lifecycleService.addListener(LifecycleEvent.PAUSE, () -> Platform.runLater(() -> {
+                paused = true;
+                flushNotes();
+                favoritesRefresh.stop();
+            }));
+            lifecycleService.addListener(LifecycleEvent.RESUME, () -> Platform.runLater(() -> {
+                paused = false;
+                refreshFavorites();
+                scheduleFavoritesRefresh();
+            }));
+        });
+
         localDataClient = DataClientBuilder.create()
                 .operationMode(OperationMode.LOCAL_ONLY)
                 .build();
@@ -174,9 +253,8 @@ public class DevoxxService implements Service {
                 .operationMode(OperationMode.CLOUD_FIRST)
                 .build();
 
-        // enable push notifications and subscribe to the possibly selected conference
+        // subscribe to the possibly selected conference once push notifications are enabled
         pushClient = new PushClient();
-        pushClient.enable(DevoxxNotifications.GCM_SENDER_ID);
         pushClient.enabledProperty().addListener((obs, ov, nv) -> {
             if (nv) {
                 Conference conference = getConference();
@@ -195,6 +273,8 @@ public class DevoxxService implements Service {
         });
 
         conferenceProperty().addListener((obs, ov, nv) -> {
+            conferenceTimeline = null;
+            sessionsLoadState.set(LoadState.REFRESHING);
             if (nv != null) {
                 if (ov != null) {
                     clearCfpAccount();
@@ -226,7 +306,9 @@ public class DevoxxService implements Service {
                 retrieveExhibitionMapsInternal();
 
                 favorites.clear();
+                favoritesVersion = null;
                 refreshFavorites();
+                scheduleFavoritesRefresh();
             }
         });
 
@@ -344,7 +426,7 @@ public class DevoxxService implements Service {
                 .param("time", "past")
                 .param("type", "")
                 .list();
-        final GluonObservableList<Conference> conferences = fnConferences.call(Conference.class);
+        final GluonObservableList<Conference> conferences = RemoteFunctionMetrics.track("conferences", fnConferences.call(Conference.class));
         conferences.setOnFailed(e -> LOG.log(
                 Level.WARNING,
                 String.format(REMOTE_FUNCTION_FAILED_MSG, "conferences" + " in retrievePastConferences()"),
@@ -356,7 +438,7 @@ public class DevoxxService implements Service {
     public GluonObservableList<Conference> retrieveConferences() {
         RemoteFunctionList fnConferences = RemoteFunctionBuilder.create("allConferences")
                 .list();
-        final GluonObservableList<Conference> conferences = fnConferences.call(new JsonIterableInputConverter<>(Conference.class));
+        final GluonObservableList<Conference> conferences = RemoteFunctionMetrics.track("allConferences", fnConferences.call(new JsonIterableInputConverter<>(Conference.class)));
         conferences.setOnFailed(e -> LOG.log(Level.WARNING,
                 String.format(REMOTE_FUNCTION_FAILED_MSG, "conferences") + " in retrieveConferences()",
                 e.getSource().getException()));
@@ -368,7 +450,7 @@ public class DevoxxService implements Service {
         RemoteFunctionObject fnConference = RemoteFunctionBuilder.create("conference")
                 .param("id", conferenceId)
                 .object();
-        GluonObservableObject<Conference> conference = fnConference.call(Conference.class);
+        GluonObservableObject<Conference> conference = RemoteFunctionMetrics.track("conference", fnConference.call(Conference.class));
 
         ready.set(false);
         if (conference.isInitialized()) {
@@ -393,25 +475,57 @@ public class DevoxxService implements Service {
             File reload = new File(rootDir, DevoxxSettings.RELOAD);
             LOG.log(Level.INFO, "Reload requested? " + reload.exists());
             if (reload.exists()) {
+                Optional<Set<String>> slotIds = readChangedSlotIds(reload);
                 reload.delete();
-                retrieveSessionsInternal();
-                retrieveSpeakersInternal();
+                if (slotIds.isPresent() && !retrieveSessions().isEmpty()) {
+                    retrieveSlotsInternal(slotIds.get());
+                } else {
+                    retrieveSessionsInternal();
+                    retrieveSpeakersInternal();
+                }
             }
         }
     }
 
+    /**
+     * Reads the push notification payloads found in the reload file. A payload like
+     * <code>{"slotIds":["room1_monday_9:30","room2_monday_9:30"]}</code> lists the slots
+     * that changed: both the old and the new slots of a session that was moved.
+     * @param reload the reload file
+     * @return the ids of the changed slots, or empty if a full reload is required
+     */
+    private static Optional<Set<String>> readChangedSlotIds(File reload) {
+        Set<String> slotIds = new HashSet<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(reload)))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.trim().isEmpty()) {
+                    continue;
+                }
+                try (JsonReader jsonReader = Json.createReader(new StringReader(line))) {
+                    JsonObject payload = jsonReader.readObject();
+                    if (!payload.containsKey("slotIds") || payload.get("slotIds").getValueType() != JsonValue.ValueType.ARRAY) {
+                        return Optional.empty();
+                    }
+                    for (JsonString slotId : payload.getJsonArray("slotIds").getValuesAs(JsonString.class)) {
+                        slotIds.add(slotId.getString());
+                    }
+                }
+            }
+        } catch (IOException | JsonException | ClassCastException e) {
+            LOG.log(Level.WARNING, "Error reading reload file, reloading all sessions", e);
+            return Optional.empty();
+        }
+        return slotIds.isEmpty() ? Optional.empty() : Optional.of(slotIds);
+    }
+
     @Override
     public boolean showRatingDialog() {
         if (getConference() == null) return false;
         if (retrieveSessions().isEmpty()) return false;
-        if (!fetchCSVFromLocalStorage(DevoxxSettings.RATING).contains(getConference().getId())) {
-            ZonedDateTime dateTimeRating = Util.findLastSessionOfLastDay(this).getStartDate().minusHours(1);
-            if (DevoxxSettings.NOTIFICATION_TESTS) {
-                dateTimeRating = dateTimeRating.minus(DevoxxSettings.NOTIFICATION_OFFSET, SECONDS);
-            }
-            ZonedDateTime currentTime = ZonedDateTime.of(LocalDateTime.now(), ZoneId.systemDefault());
+        if (!LocalSettingsStore.contains(DevoxxSettings.RATING, getConference().getId())) {
             // isOnGoing() checks rating dialog to be shown for past conferences
-            if (isOnGoing(getConference()) && currentTime.isAfter(dateTimeRating)) {
+            if (isOnGoing(getConference()) && getConferenceTimeline().isRatingDue(Instant.now())) {
                 return true;
             }
         }
@@ -435,12 +549,38 @@ public class DevoxxService implements Service {
 
     @Override
     public Optional<Session> findSession(String uuid) {
-        for (Session session : retrieveSessions()) {
-            if (session.getTalk() != null && session.getTalk().getId().equals(uuid)) {
-                return Optional.of(session);
-            }
+        return Optional.ofNullable(getScheduleIndex().getSession(uuid));
+    }
+
+    @Override
+    public List<Session> findSessions(Speaker speaker) {
+        return getScheduleIndex().getSessions(speaker.getUuid());
+    }
+
+    @Override
+    public List<Speaker> findSpeakers(Session session) {
+        return getScheduleIndex().getSpeakers(session.getTalk());
+    }
+
+    @Override
+    public void prefetchSession(Session session) {
+        sessionPrefetcher.add(session);
+    }
+
+    @Override
+    public void cancelPrefetchSession(Session session) {
+        sessionPrefetcher.remove(session);
+    }
+
+    /**
+     * Returns the cross references between sessions and speakers, created
+     * again after any change of the sessions or the speakers
+     */
+    private ScheduleIndex getScheduleIndex() {
+        if (scheduleIndex == null) {
+            scheduleIndex = new ScheduleIndex(sessions, speakers);
         }
-        return Optional.empty();
+        return scheduleIndex;
     }
 
     @Override
@@ -448,6 +588,54 @@ public class DevoxxService implements Service {
         return sessions.getReadOnlyProperty();
     }
 
+    @Override
+    public void enablePushNotifications() {
+        if (!pushClient.isEnabled()) {
+            pushClient.enable(DevoxxNotifications.GCM_SENDER_ID);
+        }
+    }
+
+    @Override
+    public ReadOnlyObjectProperty<LoadState> sessionsLoadStateProperty() {
+        return sessionsLoadState.getReadOnlyProperty();
+    }
+
+    @Override
+    public long getSessionsLoadTime(String conferenceId) {
+        String average = LocalSettingsStore.get(SESSIONS_LOAD_TIME, conferenceId);
+        try {
+            return average == null ? 0 : Long.parseLong(average);
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Updates the exponential moving average of the time the sessions of a conference take to load
+     * @param conferenceId the id of the conference
+     * @param millis the time of the last load, in milliseconds
+     */
+    private void updateSessionsLoadTime(String conferenceId, long millis) {
+        String previous = LocalSettingsStore.get(SESSIONS_LOAD_TIME, conferenceId);
+        long average = millis;
+        if (previous != null) {
+            try {
+                average = Math.round(SESSIONS_LOAD_TIME_WEIGHT * millis + (1 - SESSIONS_LOAD_TIME_WEIGHT) * Long.parseLong(previous));
+            } catch (NumberFormatException e) {
+                // keep the last time
+            }
+        }
+        LocalSettingsStore.put(SESSIONS_LOAD_TIME, conferenceId, String.valueOf(average));
+    }
+
+    @Override
+    public ConferenceTimeline getConferenceTimeline() {
+        if (conferenceTimeline == null && getConference() != null) {
+            conferenceTimeline = new ConferenceTimeline(getConference(), sessions);
+        }
+        return conferenceTimeline;
+    }
+
     private void retrieveSessionsInternal() {
         // if a retrieval is ongoing, don't initiate again
         if (!retrievingSessions.compareAndSet(false, true)) {
@@ -456,13 +644,16 @@ public class DevoxxService implements Service {
         }
 
         sessions.clear();
+        sessionsLoadState.set(LoadState.REFRESHING);
+        final String conferenceId = getConference().getId();
+        final long startTime = System.nanoTime();
 
         RemoteFunctionList fnSessions = RemoteFunctionBuilder.create("sessionsV2")
                 .param("cfpEndpoint", getCfpURL())
                 .param("conferenceId", getConference().getCfpVersion())
                 .list();
 
-        GluonObservableList<Session> sessionsList = fnSessions.call(Session.class);
+        GluonObservableList<Session> sessionsList = RemoteFunctionMetrics.track("sessionsV2", fnSessions.call(Session.class));
         ListChangeListener<Session> sessionsListChangeListener = change -> {
             while (change.next()) {
                 for (Session session : change.getAddedSubList()) {
@@ -470,6 +661,10 @@ public class DevoxxService implements Service {
                     session.setEndDate(timeToZonedDateTime(session.getToTimeMillis(), getConference().getConferenceZoneId()));
                 }
             }
+            // items before the call succeeds come from the local cache of the remote function
+            if (sessionsLoadState.get() == LoadState.REFRESHING && !sessionsList.isEmpty()) {
+                sessionsLoadState.set(LoadState.CACHED);
+            }
         };
         sessionsList.addListener(sessionsListChangeListener);
 
@@ -481,12 +676,15 @@ public class DevoxxService implements Service {
         sessionsList.setOnFailed(e -> {
             retrievingSessions.set(false);
             sessionsList.removeListener(sessionsListChangeListener);
+            sessionsLoadState.set(LoadState.FAILED);
             ConferenceLoadingLayer.hide(getConference());
             LOG.log(Level.WARNING, String.format(REMOTE_FUNCTION_FAILED_MSG, "sessions"), e.getSource().getException());
         });
         sessionsList.setOnSucceeded(e -> {
             retrievingSessions.set(false);
             sessionsList.removeListener(sessionsListChangeListener);
+            updateSessionsLoadTime(conferenceId, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+            sessionsLoadState.set(LoadState.FRESH);
             retrieveAuthenticatedUserSessionInformation();
             finishNotificationsPreloading();
             addLocalNotification();
@@ -495,6 +693,101 @@ public class DevoxxService implements Service {
         sessions.set(sessionsList);
     }
 
+    /**
+     * Retrieves only the given slots, and patches the existing sessions in place, so
+     * the favored sessions and any other references to them remain valid. Sessions
+     * that are no longer in any of these slots are removed.
+     * @param slotIds the ids of the slots that changed
+     */
+    private void retrieveSlotsInternal(Set<String> slotIds) {
+        // a full retrieval will bring the changes anyway
+        if (retrievingSessions.get()) {
+            LOG.log(Level.FINE, "Already retrieving sessions from cfp, just return.");
+            return;
+        }
+
+        final Conference conference = getConference();
+        RemoteFunctionList fnSlots = RemoteFunctionBuilder.create("sessionSlots")
+                .param("cfpEndpoint", getCfpURL())
+                .param("conferenceId", conference.getCfpVersion())
+                .param("slotIds", String.join(",", slotIds))
+                .cachingEnabled(false)
+                .list();
+
+        GluonObservableList<Session> slotsList = RemoteFunctionMetrics.track("sessionSlots", fnSlots.call(Session.class));
+        slotsList.setOnFailed(e -> {
+            LOG.log(Level.WARNING, String.format(REMOTE_FUNCTION_FAILED_MSG, "sessionSlots"), e.getSource().getException());
+            // the reload file is gone already: fall back to a full reload, so the change isn't lost
+            if (conference == getConference()) {
+                retrieveSessionsInternal();
+                retrieveSpeakersInternal();
+            }
+        });
+        slotsList.setOnSucceeded(e -> {
+            if (conference != getConference() || retrievingSessions.get()) {
+                return;
+            }
+
+            final int size = sessions.size();
+            Map<String, Integer> indexByKey = new HashMap<>();
+            for (int i = 0; i < size; i++) {
+                indexByKey.put(getSessionKey(sessions.get(i)), i);
+            }
+
+            List<Session> patched = new ArrayList<>();
+            Set<Integer> patchedIndices = new HashSet<>();
+            for (Session slot : slotsList) {
+                slot.setStartDate(timeToZonedDateTime(slot.getFromTimeMillis(), conference.getConferenceZoneId()));
+                slot.setEndDate(timeToZonedDateTime(slot.getToTimeMillis(), conference.getConferenceZoneId()));
+                Integer index = indexByKey.get(getSessionKey(slot));
+                if (index != null) {
+                    Session session = sessions.get(index);
+                    patchSession(session, slot);
+                    // replacing the session with itself notifies the listeners of the list
+                    sessions.set(index, session);
+                    patchedIndices.add(index);
+                    patched.add(session);
+                } else {
+                    sessions.add(slot);
+                    patched.add(slot);
+                }
+            }
+
+            List<Session> removed = new ArrayList<>();
+            for (int i = 0; i < size; i++) {
+                if (!patchedIndices.contains(i) && slotIds.contains(sessions.get(i).getSlotId())) {
+                    removed.add(sessions.get(i));
+                }
+            }
+            sessions.removeAll(removed);
+
+            LOG.log(Level.INFO, String.format("Patched %d sessions and removed %d sessions", patched.size(), removed.size()));
+            Injector.instantiateModelOrService(DevoxxNotifications.class).updateSessionNotifications(patched, removed);
+        });
+    }
+
+    /**
+     * Sessions are identified by their talk, or by their slot in case of breaks
+     */
+    private static String getSessionKey(Session session) {
+        return session.getTalk() != null ? "talk_" + session.getTalk().getId() : "slot_" + session.getSlotId();
+    }
+
+    private static void patchSession(Session session, Session slot) {
+        session.setSlotId(slot.getSlotId());
+        session.setRoomId(slot.getRoomId());
+        session.setRoomName(slot.getRoomName());
+        session.setDay(slot.getDay());
+        session.setFromTime(slot.getFromTime());
+        session.setFromTimeMillis(slot.getFromTimeMillis());
+        session.setStartDate(slot.getStartDate());
+        session.setToTime(slot.getToTime());
+        session.setToTimeMillis(slot.getToTimeMillis());
+        session.setEndDate(slot.getEndDate());
+        session.setBreak(slot.getBreak());
+        session.setTalk(slot.getTalk());
+    }
+
     @Override
     public ReadOnlyListProperty<Speaker> retrieveSpeakers() {
         return speakers.getReadOnlyProperty();
@@ -508,13 +801,14 @@ public class DevoxxService implements Service {
         }
 
         speakers.clear();
+        speakerRequests.clear();
 
         RemoteFunctionList fnSpeakers = RemoteFunctionBuilder.create("speakers")
                 .param("cfpEndpoint", getCfpURL())
                 .param("conferenceId", getConference().getCfpVersion())
                 .list();
 
-        GluonObservableList<Speaker> speakersList = fnSpeakers.call(Speaker.class);
+        GluonObservableList<Speaker> speakersList = RemoteFunctionMetrics.track("speakers", fnSpeakers.call(Speaker.class));
         speakersList.setOnFailed(e -> {
             retrievingSpeakers.set(false);
             LOG.log(Level.WARNING, String.format(REMOTE_FUNCTION_FAILED_MSG, "speakers"), e.getSource().getException());
@@ -527,17 +821,14 @@ public class DevoxxService implements Service {
 
     @Override
     public ReadOnlyObjectProperty<Speaker> retrieveSpeaker(String uuid) {
-        Speaker speakerWithUuid = null;
-        for (Speaker speaker : speakers) {
-            if (uuid.equals(speaker.getUuid())) {
-                speakerWithUuid = speaker;
-                break;
-            }
-        }
+        Speaker speakerWithUuid = getScheduleIndex().getSpeaker(uuid);
 
         if (speakerWithUuid != null) {
             if (speakerWithUuid.isDetailsRetrieved()) {
                 return new ReadOnlyObjectWrapper<>(speakerWithUuid).getReadOnlyProperty();
+            } else if (speakerRequests.containsKey(uuid)) {
+                // a request for the same speaker is ongoing (i.e. prefetched)
+                return speakerRequests.get(uuid);
             } else {
                 RemoteFunctionObject fnSpeaker = RemoteFunctionBuilder.create("speaker")
                         .param("cfpEndpoint", getCfpURL())
@@ -545,11 +836,16 @@ public class DevoxxService implements Service {
                         .param("uuid", uuid)
                         .object();
 
-                GluonObservableObject<Speaker> gluonSpeaker = fnSpeaker.call(Speaker.class);
+                GluonObservableObject<Speaker> gluonSpeaker = RemoteFunctionMetrics.track("speaker", fnSpeaker.call(Speaker.class));
+                speakerRequests.put(uuid, gluonSpeaker);
                 gluonSpeaker.setOnSucceeded(e -> {
+                    speakerRequests.remove(uuid);
                     updateSpeakerDetails(gluonSpeaker.get());
                 });
-                gluonSpeaker.setOnFailed(e -> LOG.log(Level.WARNING, String.format(REMOTE_FUNCTION_FAILED_MSG, "speaker"), e.getSource().getException()));
+                gluonSpeaker.setOnFailed(e -> {
+                    speakerRequests.remove(uuid);
+                    LOG.log(Level.WARNING, String.format(REMOTE_FUNCTION_FAILED_MSG, "speaker"), e.getSource().getException());
+                });
                 return gluonSpeaker;
             }
         }
@@ -573,20 +869,19 @@ public class DevoxxService implements Service {
     }
 
     private void updateSpeakerDetails(Speaker updatedSpeaker) {
-        for (Speaker speaker : speakers) {
-            if (speaker.getUuid().equals(updatedSpeaker.getUuid())) {
-                speaker.setAcceptedTalks(updatedSpeaker.getAcceptedTalks());
-                speaker.setAvatarURL(updatedSpeaker.getAvatarURL());
-                speaker.setBio(updatedSpeaker.getBio());
-                speaker.setBioAsHtml(updatedSpeaker.getBioAsHtml());
-                speaker.setBlog(updatedSpeaker.getBlog());
-                speaker.setCompany(updatedSpeaker.getCompany());
-                speaker.setFirstName(updatedSpeaker.getFirstName());
-                speaker.setLang(updatedSpeaker.getLang());
-                speaker.setLastName(updatedSpeaker.getLastName());
-                speaker.setTwitter(updatedSpeaker.getTwitter());
-                speaker.setDetailsRetrieved(true);
-            }
+        Speaker speaker = getScheduleIndex().getSpeaker(updatedSpeaker.getUuid());
+        if (speaker != null) {
+            speaker.setAcceptedTalks(updatedSpeaker.getAcceptedTalks());
+            speaker.setAvatarURL(updatedSpeaker.getAvatarURL());
+            speaker.setBio(updatedSpeaker.getBio());
+            speaker.setBioAsHtml(updatedSpeaker.getBioAsHtml());
+            speaker.setBlog(updatedSpeaker.getBlog());
+            speaker.setCompany(updatedSpeaker.getCompany());
+            speaker.setFirstName(updatedSpeaker.getFirstName());
+            speaker.setLang(updatedSpeaker.getLang());
+            speaker.setLastName(updatedSpeaker.getLastName());
+            speaker.setTwitter(updatedSpeaker.getTwitter());
+            speaker.setDetailsRetrieved(true);
         }
     }
 
@@ -660,7 +955,7 @@ public class DevoxxService implements Service {
         RemoteFunctionList fnSponsors = RemoteFunctionBuilder.create("sponsors")
                 .param("conferenceId", getConference().getId())
                 .list();
-        GluonObservableList<Sponsor> badgeSponsorsList = fnSponsors.call(Sponsor.class);
+        GluonObservableList<Sponsor> badgeSponsorsList = RemoteFunctionMetrics.track("sponsors", fnSponsors.call(Sponsor.class));
         badgeSponsorsList.setOnFailed(e -> LOG.log(Level.WARNING, String.format(REMOTE_FUNCTION_FAILED_MSG, "sponsors"), e.getSource().getException()));
         return badgeSponsorsList;
     }
@@ -703,7 +998,7 @@ public class DevoxxService implements Service {
                 .param("1", cfpUserUuid.get())
                 .object();
 
-        GluonObservableObject<Favored> functionSessions = fnFavored.call(Favored.class);
+        GluonObservableObject<Favored> functionSessions = RemoteFunctionMetrics.track("favored", fnFavored.call(Favored.class));
         functionSessions.setOnSucceeded(e -> {
 
             for (SessionId sessionId : functionSessions.get().getFavored()) {
@@ -733,7 +1028,7 @@ public class DevoxxService implements Service {
                                 .param("1", cfpUserUuid.get())
                                 .param("2", session.getTalk().getId())
                                 .object();
-                        GluonObservableObject<String> response = fnRemove.call(String.class);
+                        GluonObservableObject<String> response = RemoteFunctionMetrics.track(functionPrefix + "Remove", fnRemove.call(String.class));
                         response.setOnFailed(e -> LOG.log(Level.WARNING, "Failed to remove session " + session.getTalk().getId() + " from " + functionPrefix + ": " + response.getException().getMessage()));
                     }
                 }
@@ -745,7 +1040,7 @@ public class DevoxxService implements Service {
                                 .param("1", cfpUserUuid.get())
                                 .param("2", session.getTalk().getId())
                                 .object();
-                        GluonObservableObject<String> response = fnAdd.call(String.class);
+                        GluonObservableObject<String> response = RemoteFunctionMetrics.track(functionPrefix + "Add", fnAdd.call(String.class));
                         response.setOnFailed(e -> LOG.log(Level.WARNING, "Failed to add session " + session.getTalk().getId() + " to " + functionPrefix + ": " + response.getException().getMessage()));
                     }
                 }
@@ -763,11 +1058,78 @@ public class DevoxxService implements Service {
 
         if (notes == null) {
             notes = internalRetrieveNotes();
+            notesIndex = indexNotes(notes);
         }
 
         return notes;
     }
 
+    @Override
+    public Optional<Note> findNote(String sessionUuid) {
+        retrieveNotes();
+        return Optional.ofNullable(notesIndex.get(sessionUuid));
+    }
+
+    @Override
+    public void saveNote(String sessionUuid, String content) {
+        if (!isAuthenticated() && DevoxxSettings.USE_REMOTE_NOTES) {
+            throw new IllegalStateException("An authenticated user must be available when calling this method.");
+        }
+        pendingNotes.put(sessionUuid, content == null ? "" : content);
+        // edits made before the delay ends are applied together
+        if (notesFlush.getStatus() != Animation.Status.RUNNING) {
+            notesFlush.playFromStart();
+        }
+    }
+
+    @Override
+    public void flushNotes() {
+        notesFlush.stop();
+        if (pendingNotes.isEmpty() || notes == null) {
+            return;
+        }
+        List<Note> added = new ArrayList<>();
+        List<Note> removed = new ArrayList<>();
+        for (Map.Entry<String, String> entry : pendingNotes.entrySet()) {
+            Note note = notesIndex.get(entry.getKey());
+            if (entry.getValue().isEmpty()) {
+                if (note != null) {
+                    removed.add(note);
+                }
+            } else if (note == null) {
+                note = new Note(entry.getKey());
+                note.setContent(entry.getValue());
+                added.add(note);
+            } else {
+                note.setContent(entry.getValue());
+            }
+        }
+        pendingNotes.clear();
+        notes.removeAll(removed);
+        notes.addAll(added);
+    }
+
+    /**
+     * Creates an index of the notes by session id, kept up to date with the list
+     */
+    private static Map<String, Note> indexNotes(ObservableList<Note> list) {
+        final Map<String, Note> index = new HashMap<>();
+        for (Note note : list) {
+            index.put(note.getSessionUuid(), note);
+        }
+        list.addListener((ListChangeListener<Note>) c -> {
+            while (c.next()) {
+                for (Note note : c.getRemoved()) {
+                    index.remove(note.getSessionUuid(), note);
+                }
+                for (Note note : c.getAddedSubList()) {
+                    index.put(note.getSessionUuid(), note);
+                }
+            }
+        });
+        return index;
+    }
+
     @Override
     public ObservableList<Badge> retrieveBadges() {
         if (!isAuthenticated() && DevoxxSettings.USE_REMOTE_NOTES) {
@@ -776,21 +1138,80 @@ public class DevoxxService implements Service {
 
         if (badges == null) {
             badges = internalRetrieveBadges();
+            badgesIndex = indexBadges(badges);
         }
 
         return badges;
     }
 
+    @Override
+    public Optional<Badge> findBadge(String badgeId) {
+        retrieveBadges();
+        return Optional.ofNullable(badgesIndex.get(badgeId));
+    }
+
+    @Override
+    public boolean addBadgeIfAbsent(Badge badge) {
+        if (badge.getBadgeId() == null || findBadge(badge.getBadgeId()).isPresent()) {
+            return false;
+        }
+        badges.add(badge);
+        return true;
+    }
+
     @Override
     public ObservableList<SponsorBadge> retrieveSponsorBadges(Sponsor sponsor) {
         
         if (sponsorBadges == null) {
             sponsorBadges = internalRetrieveSponsorBadges(sponsor);
+            sponsorBadgesIndex = indexBadges(sponsorBadges);
         }
 
         return sponsorBadges;
     }
 
+    @Override
+    public Optional<SponsorBadge> findSponsorBadge(Sponsor sponsor, String badgeId) {
+        retrieveSponsorBadges(sponsor);
+        return Optional.ofNullable(sponsorBadgesIndex.get(badgeId));
+    }
+
+    @Override
+    public boolean addSponsorBadgeIfAbsent(SponsorBadge badge) {
+        if (badge.getBadgeId() == null || findSponsorBadge(badge.getSponsor(), badge.getBadgeId()).isPresent()) {
+            return false;
+        }
+        sponsorBadges.add(badge);
+        return true;
+    }
+
+    /**
+     * Creates an index of the badges of a list by badge id, kept up to date with the list
+     */
+    private static <T extends Badge> Map<String, T> indexBadges(ObservableList<T> list) {
+        final Map<String, T> index = new HashMap<>();
+        for (T badge : list) {
+            if (badge.getBadgeId() != null) {
+                index.put(badge.getBadgeId(), badge);
+            }
+        }
+        list.addListener((ListChangeListener<T>) c -> {
+            while (c.next()) {
+                for (T badge : c.getRemoved()) {
+                    if (badge.getBadgeId() != null) {
+                        index.remove(badge.getBadgeId(), badge);
+                    }
+                }
+                for (T badge : c.getAddedSubList()) {
+                    if (badge.getBadgeId() != null) {
+                        index.put(badge.getBadgeId(), badge);
+                    }
+                }
+            }
+        });
+        return index;
+    }
+
     @Override
     public void logoutSponsor() {
         sponsorBadges = null;
@@ -798,23 +1219,24 @@ public class DevoxxService implements Service {
 
     @Override
     public void saveSponsorBadge(SponsorBadge sponsorBadge) {
-        RemoteFunctionObject fnSponsorBadge = RemoteFunctionBuilder.create("saveSponsorBadge")
-                .param("0", safeStr(sponsorBadge.getSponsor().getSlug()))
-                .param("1", safeStr(sponsorBadge.getBadgeId()))
-                .param("2", safeStr(sponsorBadge.getFirstName()))
-                .param("3", safeStr(sponsorBadge.getLastName()))
-                .param("4", safeStr(sponsorBadge.getCompany()))
-                .param("5", safeStr(sponsorBadge.getEmail()))
-                .param("6", safeStr(sponsorBadge.getDetails()))
-                .param("7", ZonedDateTime.now().format(DateTimeFormatter.ISO_INSTANT))
-                .object();
-        GluonObservableObject<String> sponsorBadgeResult = fnSponsorBadge.call(String.class);
-        sponsorBadgeResult.initializedProperty().addListener((obs, ov, nv) -> {
-            if (nv) {
-                LOG.log(Level.INFO, "Response from save sponsor badge: " + sponsorBadgeResult.get());
-            }
-        });
-        sponsorBadgeResult.setOnFailed(e -> LOG.log(Level.WARNING, "Failed to call save sponsor badge: ", e.getSource().getException()));
+        getSponsorBadgeOutbox().add(getConference().getId(), sponsorBadge);
+    }
+
+    @Override
+    public ReadOnlyIntegerProperty pendingSponsorBadgesProperty() {
+        return getSponsorBadgeOutbox().pendingProperty();
+    }
+
+    @Override
+    public ReadOnlyIntegerProperty syncedSponsorBadgesProperty(Sponsor sponsor) {
+        return getSponsorBadgeOutbox().syncedProperty(getConference().getId(), sponsor.getSlug());
+    }
+
+    private SponsorBadgeOutbox getSponsorBadgeOutbox() {
+        if (sponsorBadgeOutbox == null) {
+            sponsorBadgeOutbox = new SponsorBadgeOutbox(rootDir);
+        }
+        return sponsorBadgeOutbox;
     }
 
     @Override
@@ -826,14 +1248,14 @@ public class DevoxxService implements Service {
                 // .param("cfpEndpoint", getCfpURL())
                 .param("locationId", String.valueOf(getConference().getLocationId()))
                 .object();
-        return fnLocation.call(Location.class);
+        return RemoteFunctionMetrics.track("location", fnLocation.call(Location.class));
     }
 
     @Override
     public ObservableList<RatingData> retrieveVoteTexts(int rating) {
         ObservableList<RatingData> ratingData = FXCollections.observableArrayList();
         RemoteFunctionList fnTexts = RemoteFunctionBuilder.create("voteTexts").list();
-        GluonObservableList<Rating> voteTexts = fnTexts.call(Rating.class);
+        GluonObservableList<Rating> voteTexts = RemoteFunctionMetrics.track("voteTexts", fnTexts.call(Rating.class));
         voteTexts.setOnSucceeded(e -> {
             for (Rating voteText : voteTexts) {
                 if (voteText.getRating() == rating) {
@@ -849,7 +1271,7 @@ public class DevoxxService implements Service {
     @Override
     public GluonObservableObject<String> authenticateSponsor() {
         RemoteFunctionObject fnValidateSponsor = RemoteFunctionBuilder.create("validateSponsor").cachingEnabled(false).object();
-        return fnValidateSponsor.call(String.class);
+        return RemoteFunctionMetrics.track("validateSponsor", fnValidateSponsor.call(String.class));
     }
 
     @Override
@@ -871,7 +1293,7 @@ public class DevoxxService implements Service {
                     .param("5", vote.getContent())
                     .param("6", vote.getOther())
                     .object();
-            GluonObservableObject<String> voteResult = fnVoteTalk.call(String.class);
+            GluonObservableObject<String> voteResult = RemoteFunctionMetrics.track("voteTalk", fnVoteTalk.call(String.class));
             voteResult.initializedProperty().addListener((obs, ov, nv) -> {
                 if (nv) {
                     LOG.log(Level.INFO, "Response from vote: " + voteResult.get());
@@ -890,28 +1312,55 @@ public class DevoxxService implements Service {
     public void refreshFavorites() {
         if (getConference() != null && DevoxxSettings.conferenceHasFavoriteCount(getConference()) && 
                 (allFavorites.getState() == ConnectState.SUCCEEDED || allFavorites.getState() == ConnectState.FAILED)) {
-            RemoteFunctionObject fnAllFavorites = RemoteFunctionBuilder.create("allFavorites")
-                    .param("0", getCfpURL())
+            final String conferenceId = getConference().getId();
+            // caching is disabled: a cached delta applied on top of newer counts would revert them
+            RemoteFunctionObject fnFavoritesDelta = RemoteFunctionBuilder.create("favoritesDelta")
+                    .param("cfpEndpoint", getCfpURL())
+                    .param("version", favoritesVersion == null ? "" : favoritesVersion)
+                    .cachingEnabled(false)
                     .object();
-            allFavorites = fnAllFavorites.call(new JsonInputConverter<>(Favorites.class));
+            allFavorites = RemoteFunctionMetrics.track("favoritesDelta", fnFavoritesDelta.call(new JsonInputConverter<>(FavoritesDelta.class)));
             allFavorites.setOnSucceeded(e -> {
-                for (Favorite favorite : allFavorites.get().getFavorites()) {
-                    int index = 0;
-                    for (; index < favorites.size(); index++) {
-                        if (favorites.get(index).getId().equals(favorite.getId())) {
-                            favorites.get(index).setFavs(favorite.getFavs());
-                            break;
-                        }
-                    }
-                    if (index == favorites.size()) {
-                        favorites.add(favorite);
-                    }
+                // ignore responses for a conference that is no longer selected
+                if (getConference() != null && conferenceId.equals(getConference().getId())) {
+                    applyFavoritesDelta(allFavorites.get());
                 }
                 allFavorites.setOnSucceeded(null);
             });
+            allFavorites.setOnFailed(e -> LOG.log(Level.WARNING, String.format(REMOTE_FUNCTION_FAILED_MSG, "favoritesDelta"), e.getSource().getException()));
         }
     }
-    
+
+    private void applyFavoritesDelta(FavoritesDelta delta) {
+        if (delta == null) {
+            return;
+        }
+        List<Favorite> newFavorites = new ArrayList<>();
+        for (Favorite favorite : delta.getFavorites()) {
+            Favorite existing = favoritesIndex.get(favorite.getId());
+            if (existing != null) {
+                existing.setFavs(favorite.getFavs());
+            } else {
+                newFavorites.add(favorite);
+            }
+        }
+        favorites.addAll(newFavorites);
+        favoritesVersion = delta.getVersion();
+    }
+
+    /**
+     * Favorite counts are refreshed periodically only while the app is in the foreground,
+     * and as long as they can still change
+     */
+    private void scheduleFavoritesRefresh() {
+        favoritesRefresh.stop();
+        Conference conference = getConference();
+        if (!paused && conference != null && DevoxxSettings.conferenceHasFavoriteCount(conference) &&
+                !isConferenceFromPast(conference)) {
+            favoritesRefresh.play();
+        }
+    }
+
     @Override
     public User getAuthenticatedUser() {
         return authenticationClient.getAuthenticatedUser();
@@ -924,7 +1373,7 @@ public class DevoxxService implements Service {
                 .param("email", feedback.getEmail())
                 .param("message", feedback.getMessage())
                 .object();
-        fnSendFeedback.call(String.class);
+        RemoteFunctionMetrics.track("sendFeedback", fnSendFeedback.call(String.class));
     }
 
     private ObservableList<Note> internalRetrieveNotes() {
@@ -932,8 +1381,8 @@ public class DevoxxService implements Service {
             return DataProvider.retrieveList(cloudDataClient.createListDataReader(authenticationClient.getAuthenticatedUser().getKey() + "_notes",
                     Note.class, SyncFlag.LIST_WRITE_THROUGH, SyncFlag.OBJECT_WRITE_THROUGH));
         } else {
-            return DataProvider.retrieveList(localDataClient.createListDataReader(authenticationClient.getAuthenticatedUser().getKey() + "_notes",
-                    Note.class, SyncFlag.LIST_WRITE_THROUGH, SyncFlag.OBJECT_WRITE_THROUGH));
+            return retrieveJournaledList(authenticationClient.getAuthenticatedUser().getKey() + "_notes", Note.class,
+                    Note::getUuid, note -> new Observable[] { note.contentProperty() });
         }
     }
 
@@ -942,17 +1391,56 @@ public class DevoxxService implements Service {
             return DataProvider.retrieveList(cloudDataClient.createListDataReader(authenticationClient.getAuthenticatedUser().getKey() + "_badges",
                     Badge.class, SyncFlag.LIST_WRITE_THROUGH, SyncFlag.OBJECT_WRITE_THROUGH));
         } else {
-            return DataProvider.retrieveList(localDataClient.createListDataReader(authenticationClient.getAuthenticatedUser().getKey() + "_badges",
-                    Badge.class, SyncFlag.LIST_WRITE_THROUGH, SyncFlag.OBJECT_WRITE_THROUGH));
+            return retrieveJournaledList(authenticationClient.getAuthenticatedUser().getKey() + "_badges", Badge.class,
+                    Badge::getBadgeId, DevoxxService::getBadgeObservables);
         }
     }
 
     private GluonObservableList<SponsorBadge> internalRetrieveSponsorBadges(Sponsor sponsor) {
-        GluonObservableList<SponsorBadge> localSponsorBadges = DataProvider.retrieveList(localDataClient.createListDataReader(getConference().getId() + "_" + sponsor.getSlug() + "_sponsor_badges_" +
+        return retrieveJournaledList(getConference().getId() + "_" + sponsor.getSlug() + "_sponsor_badges_" +
                 Services.get(DeviceService.class).map(DeviceService::getUuid).orElse(System.getProperty("user.name")),
-                SponsorBadge.class, SyncFlag.LIST_WRITE_THROUGH, SyncFlag.OBJECT_WRITE_THROUGH));
+                SponsorBadge.class, SponsorBadge::getBadgeId, badge -> {
+                    Observable[] observables = getBadgeObservables(badge);
+                    Observable[] all = Arrays.copyOf(observables, observables.length + 1);
+                    all[observables.length] = badge.sponsorProperty();
+                    return all;
+                });
+    }
 
-        return localSponsorBadges;
+    private static Observable[] getBadgeObservables(Badge badge) {
+        return new Observable[] { badge.badgeIdProperty(), badge.firstNameProperty(), badge.lastNameProperty(),
+                badge.companyProperty(), badge.emailProperty(), badge.detailsProperty() };
+    }
+
+    /**
+     * Returns a local list persisted in a journal. The first time, the journal is
+     * filled with the list that was stored by the local data client under the same name
+     */
+    private <T> GluonObservableList<T> retrieveJournaledList(String name, Class<T> type,
+                                                            Function<T, String> idFunction, Function<T, Observable[]> extractor) {
+        File root = Services.get(StorageService.class)
+                .flatMap(StorageService::getPrivateStorage)
+                .map(storage -> new File(storage, JOURNALS_DIR))
+                .orElse(null);
+        if (root == null || (!root.exists() && !root.mkdirs())) {
+            LOG.log(Level.WARNING, "Error accessing journals storage, using the local data client for " + name);
+            return DataProvider.retrieveList(localDataClient.createListDataReader(name, type,
+                    SyncFlag.LIST_WRITE_THROUGH, SyncFlag.OBJECT_WRITE_THROUGH));
+        }
+        File file = new File(root, name + ".journal");
+        boolean migrate = !file.exists();
+        JournaledList<T> journaledList = new JournaledList<>(file, type, idFunction, extractor);
+        if (migrate) {
+            GluonObservableList<T> legacyList = DataProvider.retrieveList(localDataClient.createListDataReader(name, type));
+            legacyList.setOnSucceeded(e -> {
+                for (T item : legacyList) {
+                    if (journaledList.get(idFunction.apply(item)) == null) {
+                        journaledList.getList().add(item);
+                    }
+                }
+            });
+        }
+        return journaledList.getList();
     }
 
     private void loadCfpAccount(User user, Runnable successRunnable) {
@@ -975,7 +1463,7 @@ public class DevoxxService implements Service {
                                 .param("2", user.getLoginMethod().name())
                                 .param("3", user.getEmail())
                                 .object();
-                        GluonObservableObject<String> accountUuid = fnVerifyAccount.call(String.class);
+                        GluonObservableObject<String> accountUuid = RemoteFunctionMetrics.track("verifyAccount", fnVerifyAccount.call(String.class));
                         accountUuid.setOnSucceeded(e -> {
                             LOG.log(Level.INFO, "Verified user " + user + " as account with uuid " + accountUuid);
                             cfpUserUuid.set(accountUuid.get());
@@ -1010,7 +1498,9 @@ public class DevoxxService implements Service {
 
     private void clearCfpAccount() {
         cfpUserUuid.set("");
+        flushNotes();
         notes = null;
+        notesIndex = new HashMap<>();
         badges = null;
         sponsorBadges = null;
         favoredSessions = null;
@@ -1038,10 +1528,10 @@ public class DevoxxService implements Service {
     }
 
     private void addLocalNotification() {
-        if (!fetchCSVFromLocalStorage(LOCAL_NOTIFICATION_RATING).contains(getConference().getId())) {
+        if (!LocalSettingsStore.contains(LOCAL_NOTIFICATION_RATING, getConference().getId())) {
             DevoxxNotifications notifications = Injector.instantiateModelOrService(DevoxxNotifications.class);
             notifications.addRatingNotification(getConference());
-            addCSVToLocalStorage(LOCAL_NOTIFICATION_RATING, getConference().getId());
+            LocalSettingsStore.add(LOCAL_NOTIFICATION_RATING, getConference().getId());
         }
     }
 
@@ -1,6 +1,7 @@
 package com.devoxx.service;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.TimeZone;
@@ -21,16 +22,20 @@ import com.devoxx.model.Sponsor;
 import com.devoxx.model.SponsorBadge;
 import com.devoxx.model.Track;
 import com.devoxx.model.Vote;
+import com.devoxx.util.ConferenceTimeline;
 import com.devoxx.views.helper.SessionVisuals.SessionListType;
 import com.gluonhq.cloudlink.client.user.User;
 import com.gluonhq.connect.GluonObservableList;
 import com.gluonhq.connect.GluonObservableObject;
 
 import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.ReadOnlyIntegerProperty;
 import javafx.beans.property.ReadOnlyListProperty;
 import javafx.beans.property.ReadOnlyObjectProperty;
 import javafx.beans.property.SimpleBooleanProperty;
+import javafx.beans.property.SimpleIntegerProperty;
 import javafx.beans.property.SimpleListProperty;
+import javafx.beans.property.SimpleObjectProperty;
 import javafx.collections.ObservableList;
 
 public class JavaConfService implements Service {
@@ -91,6 +96,11 @@ public class JavaConfService implements Service {
 		return obj;
 	}
 
+	@Override
+	public void enablePushNotifications() {
+		System.out.println("JavaConfService.enablePushNotifications()");
+	}
+
 	@Override
 	public void checkIfReloadRequested() {
 		System.out.println("JavaConfService.checkIfReloadRequested()");
@@ -108,6 +118,24 @@ public class JavaConfService implements Service {
 		return new SimpleListProperty<>();
 	}
 
+	@Override
+	public ReadOnlyObjectProperty<LoadState> sessionsLoadStateProperty() {
+		System.out.println("JavaConfService.sessionsLoadStateProperty()");
+		return new SimpleObjectProperty<>(LoadState.FRESH);
+	}
+
+	@Override
+	public long getSessionsLoadTime(String conferenceId) {
+		System.out.println("JavaConfService.getSessionsLoadTime()");
+		return 0;
+	}
+
+	@Override
+	public ConferenceTimeline getConferenceTimeline() {
+		System.out.println("JavaConfService.getConferenceTimeline()");
+		return currentConference == null ? null : new ConferenceTimeline(currentConference, Collections.emptyList());
+	}
+
 	@Override
 	public ReadOnlyListProperty<Speaker> retrieveSpeakers() {
 		System.out.println("JavaConfService.retrieveSpeakers()");
@@ -194,18 +222,58 @@ public class JavaConfService implements Service {
 		return new GluonObservableList<>();
 	}
 
+	@Override
+	public Optional<Note> findNote(String sessionUuid) {
+		System.out.println("JavaConfService.findNote()");
+		return Optional.empty();
+	}
+
+	@Override
+	public void saveNote(String sessionUuid, String content) {
+		System.out.println("JavaConfService.saveNote()");
+	}
+
+	@Override
+	public void flushNotes() {
+		System.out.println("JavaConfService.flushNotes()");
+	}
+
 	@Override
 	public ObservableList<Badge> retrieveBadges() {
 		System.out.println("JavaConfService.retrieveBadges()");
 		return new GluonObservableList<>();
 	}
 
+	@Override
+	public Optional<Badge> findBadge(String badgeId) {
+		System.out.println("JavaConfService.findBadge()");
+		return Optional.empty();
+	}
+
+	@Override
+	public boolean addBadgeIfAbsent(Badge badge) {
+		System.out.println("JavaConfService.addBadgeIfAbsent()");
+		return false;
+	}
+
 	@Override
 	public ObservableList<SponsorBadge> retrieveSponsorBadges(Sponsor sponsor) {
 		System.out.println("JavaConfService.retrieveSponsorBadges()");
 		return new GluonObservableList<>();
 	}
 
+	@Override
+	public Optional<SponsorBadge> findSponsorBadge(Sponsor sponsor, String badgeId) {
+		System.out.println("JavaConfService.findSponsorBadge()");
+		return Optional.empty();
+	}
+
+	@Override
+	public boolean addSponsorBadgeIfAbsent(SponsorBadge badge) {
+		System.out.println("JavaConfService.addSponsorBadgeIfAbsent()");
+		return false;
+	}
+
 	@Override
 	public void logoutSponsor() {
 		System.out.println("JavaConfService.logoutSponsor()");
@@ -223,6 +291,28 @@ public class JavaConfService implements Service {
 		return Optional.of(new Session());
 	}
 
+	@Override
+	public List<Session> findSessions(Speaker speaker) {
+		System.out.println("JavaConfService.findSessions()");
+		return Collections.emptyList();
+	}
+
+	@Override
+	public List<Speaker> findSpeakers(Session session) {
+		System.out.println("JavaConfService.findSpeakers()");
+		return Collections.emptyList();
+	}
+
+	@Override
+	public void prefetchSession(Session session) {
+		System.out.println("JavaConfService.prefetchSession()");
+	}
+
+	@Override
+	public void cancelPrefetchSession(Session session) {
+		System.out.println("JavaConfService.cancelPrefetchSession()");
+	}
+
 	@Override
 	public void voteTalk(Vote vote) {
 		System.out.println("JavaConfService.voteTalk()");
@@ -250,6 +340,18 @@ public class JavaConfService implements Service {
 		System.out.println("JavaConfService.saveSponsorBadge()");
 	}
 
+	@Override
+	public ReadOnlyIntegerProperty pendingSponsorBadgesProperty() {
+		System.out.println("JavaConfService.pendingSponsorBadgesProperty()");
+		return new SimpleIntegerProperty();
+	}
+
+	@Override
+	public ReadOnlyIntegerProperty syncedSponsorBadgesProperty(Sponsor sponsor) {
+		System.out.println("JavaConfService.syncedSponsorBadgesProperty()");
+		return new SimpleIntegerProperty();
+	}
+
 	@Override
 	public User getAuthenticatedUser() {
 		System.out.println("JavaConfService.getAuthenticatedUser()");
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2018, Gluon Software
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the
+ * following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation and/or other materials provided
+ *    with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse
+ *    or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES,
+ * INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.devoxx.service;
+
+import com.devoxx.model.Session;
+import com.devoxx.model.Speaker;
+import com.devoxx.model.Talk;
+import com.devoxx.model.TalkSpeaker;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Cross references between the sessions and the speakers of a conference:
+ * sessions by talk id, speakers by uuid, and the sessions of each speaker.
+ *
+ * It is built from a snapshot of both lists, and has to be created again
+ * when any of them changes.
+ */
+class ScheduleIndex {
+
+    private final Map<String, Session> sessionsByTalkId = new HashMap<>();
+    private final Map<String, Speaker> speakersByUuid = new HashMap<>();
+    private final Map<String, List<Session>> sessionsBySpeakerUuid = new HashMap<>();
+
+    ScheduleIndex(List<Session> sessions, List<Speaker> speakers) {
+        for (Session session : sessions) {
+            Talk talk = session.getTalk();
+            if (talk == null || talk.getId() == null) {
+                continue;
+            }
+            sessionsByTalkId.putIfAbsent(talk.getId(), session);
+            if (talk.getSpeakers() != null) {
+                for (TalkSpeaker talkSpeaker : talk.getSpeakers()) {
+                    String uuid = talkSpeaker.getSpeakerUuid();
+                    if (uuid != null) {
+                        sessionsBySpeakerUuid.computeIfAbsent(uuid, k -> new ArrayList<>()).add(session);
+                    }
+                }
+            }
+        }
+        for (Speaker speaker : speakers) {
+            if (speaker.getUuid() != null) {
+                speakersByUuid.put(speaker.getUuid(), speaker);
+            }
+        }
+    }
+
+    /**
+     * @param talkId the id of a talk
+     * @return the session of the talk, or null if there is none
+     */
+    Session getSession(String talkId) {
+        return sessionsByTalkId.get(talkId);
+    }
+
+    /**
+     * @param uuid the uuid of a speaker
+     * @return the speaker, or null if there is none
+     */
+    Speaker getSpeaker(String uuid) {
+        return speakersByUuid.get(uuid);
+    }
+
+    /**
+     * @param speakerUuid the uuid of a speaker
+     * @return the sessions of the speaker, in schedule order
+     */
+    List<Session> getSessions(String speakerUuid) {
+        return sessionsBySpeakerUuid.getOrDefault(speakerUuid, Collections.emptyList());
+    }
+
+    /**
+     * @param talk a talk
+     * @return the known speakers of the talk, in the order of the talk
+     */
+    List<Speaker> getSpeakers(Talk talk) {
+        if (talk == null || talk.getSpeakers() == null) {
+            return Collections.emptyList();
+        }
+        List<Speaker> speakers = new ArrayList<>();
+        for (TalkSpeaker talkSpeaker : talk.getSpeakers()) {
+            Speaker speaker = speakersByUuid.get(talkSpeaker.getSpeakerUuid());
+            if (speaker != null) {
+                speakers.add(speaker);
+            }
+        }
+        return speakers;
+    }
+}
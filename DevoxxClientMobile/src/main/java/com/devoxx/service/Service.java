@@ -39,16 +39,19 @@ import com.devoxx.model.SponsorBadge;
 import com.devoxx.model.Track;
 import com.devoxx.model.Vote;
 import com.devoxx.model.*;
+import com.devoxx.util.ConferenceTimeline;
 import com.devoxx.views.helper.SessionVisuals.SessionListType;
 import com.gluonhq.cloudlink.client.user.User;
 import com.gluonhq.connect.GluonObservableList;
 import com.gluonhq.connect.GluonObservableObject;
 import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.ReadOnlyIntegerProperty;
 import javafx.beans.property.ReadOnlyListProperty;
 import javafx.beans.property.ReadOnlyObjectProperty;
 import javafx.collections.ObservableList;
 
 import javax.inject.Singleton;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -93,6 +96,12 @@ public interface Service {
 
     ReadOnlyObjectProperty<Conference> conferenceProperty();
 
+    /**
+     * Enables push notifications on the device, and subscribes to the selected conference.
+     * It can be deferred until the application is interactive.
+     */
+    void enablePushNotifications();
+
     /**
      * Execute a reload of sessions and speakers when a reload is requested.
      */
@@ -110,6 +119,30 @@ public interface Service {
      */
     ReadOnlyListProperty<Session> retrieveSessions();
 
+    /**
+     * Returns the state of the load of the sessions of the selected conference.
+     *
+     * @return the load state
+     */
+    ReadOnlyObjectProperty<LoadState> sessionsLoadStateProperty();
+
+    /**
+     * Returns the moving average of the time the sessions of a conference
+     * took to load in previous retrievals.
+     *
+     * @param conferenceId the id of the conference
+     * @return the average load time in milliseconds, or 0 if it is not known
+     */
+    long getSessionsLoadTime(String conferenceId);
+
+    /**
+     * Returns the schedule facts derived from the sessions of the conference.
+     * The returned instance is cached until the sessions or the conference change.
+     *
+     * @return the conference timeline, or null if no conference is selected
+     */
+    ConferenceTimeline getConferenceTimeline();
+
     /**
      * Returns a list of speakers at the conference.
      *
@@ -218,6 +251,33 @@ public interface Service {
      */
     ObservableList<Note> retrieveNotes();
 
+    /**
+     * Finds the note the authenticated user has written for a session.
+     *
+     * @param sessionUuid the id of the session
+     * @return the note of the session, if there is one
+     * @throws IllegalStateException when no user is currently authenticated
+     */
+    Optional<Note> findNote(String sessionUuid);
+
+    /**
+     * Updates the note of a session. Updates are applied to the list of notes
+     * and persisted in batches, after a short delay, when {@link #flushNotes()}
+     * is called or when the application is paused.
+     * An empty content removes the note.
+     *
+     * @param sessionUuid the id of the session
+     * @param content the content of the note
+     * @throws IllegalStateException when no user is currently authenticated
+     */
+    void saveNote(String sessionUuid, String content);
+
+    /**
+     * Applies the pending updates of the notes to the list of notes right away,
+     * which persists them.
+     */
+    void flushNotes();
+
     /**
      * Returns a list of badges that the authenticated user has scanned. 
      *
@@ -226,6 +286,24 @@ public interface Service {
      */
     ObservableList<Badge> retrieveBadges();
 
+    /**
+     * Finds a badge by its id, among the badges the authenticated user has scanned.
+     *
+     * @param badgeId the id of the badge
+     * @return the badge, if it was scanned
+     * @throws IllegalStateException when no user is currently authenticated
+     */
+    Optional<Badge> findBadge(String badgeId);
+
+    /**
+     * Adds a scanned badge, unless a badge with the same id was scanned already.
+     *
+     * @param badge the scanned badge
+     * @return true if the badge was added
+     * @throws IllegalStateException when no user is currently authenticated
+     */
+    boolean addBadgeIfAbsent(Badge badge);
+
     /**
      * Returns a list of badges that the authenticated sponsor has scanned. 
      *
@@ -235,6 +313,23 @@ public interface Service {
      */
     ObservableList<SponsorBadge> retrieveSponsorBadges(Sponsor sponsor);
 
+    /**
+     * Finds a sponsor badge by its id, among the badges scanned for the sponsor.
+     *
+     * @param sponsor the sponsor
+     * @param badgeId the id of the badge
+     * @return the badge, if it was scanned
+     */
+    Optional<SponsorBadge> findSponsorBadge(Sponsor sponsor, String badgeId);
+
+    /**
+     * Adds a scanned sponsor badge, unless a badge with the same id was scanned already.
+     *
+     * @param badge the scanned badge
+     * @return true if the badge was added
+     */
+    boolean addSponsorBadgeIfAbsent(SponsorBadge badge);
+
     /**
      * Logs out the currently logged in sponsor
      */
@@ -254,6 +349,33 @@ public interface Service {
      */
     Optional<Session> findSession(String uuid);
 
+    /**
+     * Retrieves the sessions of the talks a speaker presents.
+     * @param speaker The speaker
+     * @return the sessions of the speaker, in schedule order
+     */
+    List<Session> findSessions(Speaker speaker);
+
+    /**
+     * Retrieves the speakers of the talk of a session.
+     * @param session The session
+     * @return the speakers of the session, in the order of the talk
+     */
+    List<Speaker> findSpeakers(Session session);
+
+    /**
+     * Fetches in the background the speaker details and avatars of a session
+     * that is visible in a list, so its page opens already populated.
+     * @param session The visible session
+     */
+    void prefetchSession(Session session);
+
+    /**
+     * Discards the pending prefetch of a session that is no longer visible.
+     * @param session The session
+     */
+    void cancelPrefetchSession(Session session);
+
     void voteTalk(Vote vote);
 
     /**
@@ -263,7 +385,9 @@ public interface Service {
     ObservableList<Favorite> retrieveFavorites();
 
     /**
-     * Updates the list of favorites from the data source.
+     * Updates the list of favorites from the data source, requesting only the
+     * counts that changed since the last refresh. Besides explicit calls, this is
+     * done periodically while the application is in the foreground.
      */
     void refreshFavorites();
 
@@ -274,11 +398,28 @@ public interface Service {
     GluonObservableObject<String> authenticateSponsor();
 
     /**
-     * Sends the sponsor badge to a GCL remote function
+     * Queues the sponsor badge to be sent to a GCL remote function.
+     * The badge is persisted locally until it is sent.
      * @param sponsorBadge The sponsor badge to be send to the GCL remote function.
      */
     void saveSponsorBadge(SponsorBadge sponsorBadge);
 
+    /**
+     * Returns the number of scanned sponsor badges that haven't been uploaded yet.
+     *
+     * @return the pending badges count
+     */
+    ReadOnlyIntegerProperty pendingSponsorBadgesProperty();
+
+    /**
+     * Returns the number of badges of a sponsor uploaded from this device,
+     * for the current conference.
+     *
+     * @param sponsor the sponsor
+     * @return the uploaded badges count
+     */
+    ReadOnlyIntegerProperty syncedSponsorBadgesProperty(Sponsor sponsor);
+
     /**
      * Returns the authenticated user, if present. Otherwise, returns null.
      * @return The authenticated user, if present.
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2018, Gluon Software
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the
+ * following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation and/or other materials provided
+ *    with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse
+ *    or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES,
+ * INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.devoxx.service;
+
+import com.devoxx.model.Session;
+import com.devoxx.model.Speaker;
+import com.devoxx.util.ImageCache;
+import javafx.animation.Animation;
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
+import javafx.util.Duration;
+
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Fetches in advance the speaker details and avatars of the sessions shown
+ * in the schedule lists, so the session pages open already populated.
+ *
+ * Sessions are queued while their cells are visible, and removed from the
+ * queue when their cells are reused for other sessions. The queue is processed
+ * one session at a time, at a low pace, so quickly scrolled sessions are
+ * discarded before any request is made. Requests that have already started
+ * are not cancelled, as their results are kept anyway.
+ */
+class SessionPrefetcher {
+
+    private static final Duration INTERVAL = Duration.millis(300);
+
+    private final Service service;
+    private final Set<Session> queue = new LinkedHashSet<>();
+    private final Timeline timeline;
+
+    SessionPrefetcher(Service service) {
+        this.service = service;
+        timeline = new Timeline(new KeyFrame(INTERVAL, e -> prefetchNext()));
+        timeline.setCycleCount(Animation.INDEFINITE);
+    }
+
+    /**
+     * Queues a session that became visible
+     * @param session the session
+     */
+    void add(Session session) {
+        if (session == null || session.getTalk() == null) {
+            return;
+        }
+        if (queue.add(session) && timeline.getStatus() != Animation.Status.RUNNING) {
+            timeline.play();
+        }
+    }
+
+    /**
+     * Removes from the queue a session that is no longer visible
+     * @param session the session
+     */
+    void remove(Session session) {
+        if (session != null && queue.remove(session) && queue.isEmpty()) {
+            timeline.stop();
+        }
+    }
+
+    private void prefetchNext() {
+        Iterator<Session> iterator = queue.iterator();
+        if (!iterator.hasNext()) {
+            timeline.stop();
+            return;
+        }
+        Session session = iterator.next();
+        iterator.remove();
+        for (Speaker speaker : service.findSpeakers(session)) {
+            if (!speaker.isDetailsRetrieved()) {
+                service.retrieveSpeaker(speaker.getUuid());
+            }
+            // starts the download, if the avatar is not cached yet
+            ImageCache.isInLocalCache(speaker.getAvatarURL(), true);
+        }
+        if (queue.isEmpty()) {
+            timeline.stop();
+        }
+    }
+}
@@ -0,0 +1,256 @@
+/*
+ * Copyright (c) 2018, Gluon Software
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the
+ * following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation and/or other materials provided
+ *    with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse
+ *    or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES,
+ * INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.devoxx.service;
+
+import com.devoxx.model.Sponsor;
+import com.devoxx.model.SponsorBadge;
+import com.devoxx.util.JournaledList;
+import com.devoxx.util.LocalSettingsStore;
+import com.devoxx.util.RemoteFunctionMetrics;
+import com.gluonhq.charm.down.Services;
+import com.gluonhq.charm.down.plugins.ConnectivityService;
+import com.gluonhq.cloudlink.client.data.RemoteFunctionBuilder;
+import com.gluonhq.cloudlink.client.data.RemoteFunctionObject;
+import com.gluonhq.connect.ConnectState;
+import com.gluonhq.connect.GluonObservableList;
+import com.gluonhq.connect.GluonObservableObject;
+import javafx.animation.Animation;
+import javafx.animation.PauseTransition;
+import javafx.beans.Observable;
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.property.ReadOnlyIntegerWrapper;
+import javafx.util.Duration;
+
+import java.io.File;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static com.devoxx.views.helper.Util.safeStr;
+
+/**
+ * Durable queue of the sponsor badges that have to be posted to the back end.
+ *
+ * Badges are persisted locally as soon as they are saved, and uploaded with the
+ * saveSponsorBadge remote function, a few of them in parallel. Failed uploads are
+ * retried with an exponential backoff, and right away when the connectivity is
+ * restored. A badge is identified by its sponsor slug and badge id, so saving it
+ * again before it is uploaded only replaces its pending content, and saving it
+ * again with the content it was uploaded with doesn't upload it again.
+ */
+class SponsorBadgeOutbox {
+
+    private static final Logger LOG = Logger.getLogger(SponsorBadgeOutbox.class.getName());
+
+    private static final String FILE_NAME = "sponsor_badges_outbox.journal";
+    // conference of each queued badge, by badge key
+    private static final String QUEUED_KEY = "sponsor_badges_queued";
+    // uploaded badges count, by conference id and sponsor slug
+    private static final String SYNCED_KEY = "sponsor_badges_synced";
+    // content of each uploaded badge, by conference id and badge key
+    private static final String SYNCED_CONTENT_KEY = "sponsor_badges_synced_content";
+
+    private static final int MAX_PARALLEL_UPLOADS = 4;
+    private static final Duration MIN_BACKOFF = Duration.seconds(5);
+    private static final Duration MAX_BACKOFF = Duration.minutes(5);
+
+    private final JournaledList<SponsorBadge> outbox;
+    private final ReadOnlyIntegerWrapper pending = new ReadOnlyIntegerWrapper();
+    private final Map<String, ReadOnlyIntegerWrapper> synced = new HashMap<>();
+    private final Set<String> uploading = new HashSet<>();
+    private final PauseTransition retry = new PauseTransition();
+    private int failures;
+
+    SponsorBadgeOutbox(File root) {
+        outbox = new JournaledList<>(new File(root, FILE_NAME), SponsorBadge.class,
+                SponsorBadgeOutbox::getKey, badge -> new Observable[0]);
+
+        GluonObservableList<SponsorBadge> badges = outbox.getList();
+        badges.addListener((Observable o) -> pending.set(badges.size()));
+
+        retry.setOnFinished(e -> upload());
+        badges.stateProperty().addListener((obs, ov, nv) -> {
+            if (nv == ConnectState.SUCCEEDED) {
+                upload();
+            }
+        });
+        Services.get(ConnectivityService.class).ifPresent(connectivity ->
+            connectivity.connectedProperty().addListener((obs, ov, nv) -> {
+                if (nv) {
+                    failures = 0;
+                    retry.stop();
+                    upload();
+                }
+            }));
+    }
+
+    /**
+     * Queues a badge for upload, replacing its pending content if it was already queued
+     * @param conferenceId the id of the conference the badge was scanned at
+     * @param badge the scanned sponsor badge
+     */
+    void add(String conferenceId, SponsorBadge badge) {
+        SponsorBadge copy = copy(badge);
+        String key = getKey(copy);
+        SponsorBadge queued = outbox.get(key);
+        if (queued == null && getContent(copy).equals(LocalSettingsStore.get(SYNCED_CONTENT_KEY, conferenceId + ":" + key))) {
+            // already uploaded with this content
+            return;
+        }
+        LocalSettingsStore.put(QUEUED_KEY, key, conferenceId);
+        GluonObservableList<SponsorBadge> badges = outbox.getList();
+        if (queued != null) {
+            badges.set(badges.indexOf(queued), copy);
+        } else {
+            badges.add(copy);
+        }
+        upload();
+    }
+
+    ReadOnlyIntegerProperty pendingProperty() {
+        return pending.getReadOnlyProperty();
+    }
+
+    /**
+     * @param conferenceId the id of a conference
+     * @param slug the slug of a sponsor
+     * @return the number of badges of the sponsor uploaded from this device at the conference
+     */
+    ReadOnlyIntegerProperty syncedProperty(String conferenceId, String slug) {
+        return getSynced(conferenceId + ":" + slug).getReadOnlyProperty();
+    }
+
+    private void upload() {
+        GluonObservableList<SponsorBadge> badges = outbox.getList();
+        if (retry.getStatus() == Animation.Status.RUNNING || badges.getState() != ConnectState.SUCCEEDED) {
+            return;
+        }
+        for (SponsorBadge badge : new ArrayList<>(badges)) {
+            if (uploading.size() >= MAX_PARALLEL_UPLOADS) {
+                break;
+            }
+            // a badge saved again during its upload waits for that upload to finish
+            if (uploading.add(getKey(badge))) {
+                upload(badge);
+            }
+        }
+    }
+
+    private void upload(SponsorBadge badge) {
+        final String key = getKey(badge);
+        RemoteFunctionObject fnSponsorBadge = RemoteFunctionBuilder.create("saveSponsorBadge")
+                .param("0", safeStr(getSlug(badge)))
+                .param("1", safeStr(badge.getBadgeId()))
+                .param("2", safeStr(badge.getFirstName()))
+                .param("3", safeStr(badge.getLastName()))
+                .param("4", safeStr(badge.getCompany()))
+                .param("5", safeStr(badge.getEmail()))
+                .param("6", safeStr(badge.getDetails()))
+                .param("7", ZonedDateTime.now().format(DateTimeFormatter.ISO_INSTANT))
+                .cachingEnabled(false)
+                .object();
+        GluonObservableObject<String> result = RemoteFunctionMetrics.track("saveSponsorBadge", fnSponsorBadge.call(String.class));
+        result.setOnSucceeded(e -> {
+            uploading.remove(key);
+            failures = 0;
+            LOG.log(Level.INFO, "Response from save sponsor badge: " + result.get());
+            final String conferenceId = LocalSettingsStore.get(QUEUED_KEY, key);
+            if (conferenceId != null) {
+                LocalSettingsStore.put(SYNCED_CONTENT_KEY, conferenceId + ":" + key, getContent(badge));
+            }
+            // a badge saved again during the upload stays queued with its new content
+            if (outbox.get(key) == badge && outbox.getList().remove(badge)) {
+                LocalSettingsStore.put(QUEUED_KEY, key, null);
+                if (conferenceId != null) {
+                    final String name = conferenceId + ":" + getSlug(badge);
+                    ReadOnlyIntegerWrapper count = getSynced(name);
+                    count.set(count.get() + 1);
+                    LocalSettingsStore.put(SYNCED_KEY, name, String.valueOf(count.get()));
+                }
+            }
+            upload();
+        });
+        result.setOnFailed(e -> {
+            uploading.remove(key);
+            if (retry.getStatus() != Animation.Status.RUNNING) {
+                failures++;
+                Duration backoff = MIN_BACKOFF.multiply(Math.pow(2, Math.min(failures - 1, 10)));
+                retry.setDuration(backoff.greaterThan(MAX_BACKOFF) ? MAX_BACKOFF : backoff);
+                retry.playFromStart();
+            }
+            LOG.log(Level.WARNING, "Failed to upload the sponsor badge, " + outbox.getList().size() +
+                    " pending, retrying in " + retry.getDuration(), e.getSource().getException());
+        });
+    }
+
+    private ReadOnlyIntegerWrapper getSynced(String name) {
+        return synced.computeIfAbsent(name, n -> new ReadOnlyIntegerWrapper(readSynced(n)));
+    }
+
+    private static int readSynced(String name) {
+        String value = LocalSettingsStore.get(SYNCED_KEY, name);
+        try {
+            return value == null ? 0 : Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static String getSlug(SponsorBadge badge) {
+        Sponsor sponsor = badge.getSponsor();
+        return sponsor == null ? "" : sponsor.getSlug();
+    }
+
+    private static String getKey(SponsorBadge badge) {
+        return getSlug(badge) + ":" + badge.getBadgeId();
+    }
+
+    /**
+     * @return the uploaded fields of the badge, to find out if it changed
+     */
+    private static String getContent(SponsorBadge badge) {
+        return String.join("\n", safeStr(badge.getFirstName()), safeStr(badge.getLastName()),
+                safeStr(badge.getCompany()), safeStr(badge.getEmail()), safeStr(badge.getDetails()));
+    }
+
+    private static SponsorBadge copy(SponsorBadge badge) {
+        SponsorBadge copy = new SponsorBadge();
+        copy.setBadgeId(badge.getBadgeId());
+        copy.setFirstName(badge.getFirstName());
+        copy.setLastName(badge.getLastName());
+        copy.setCompany(badge.getCompany());
+        copy.setEmail(badge.getEmail());
+        copy.setDetails(badge.getDetails());
+        copy.setSponsor(badge.getSponsor());
+        return copy;
+    }
+}
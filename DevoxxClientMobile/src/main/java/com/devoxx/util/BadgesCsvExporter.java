@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2018, Gluon Software
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the
+ * following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation and/or other materials provided
+ *    with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse
+ *    or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES,
+ * INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.devoxx.util;
+
+import com.devoxx.model.Badge;
+import javafx.concurrent.Task;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Exports a list of badges to a CSV file (RFC 4180), writing the rows in a
+ * background thread and reporting the progress through a {@link Task}.
+ *
+ * The ids of the exported badges are kept in the {@link LocalSettingsStore},
+ * so a later export can include only the badges scanned since then.
+ */
+public class BadgesCsvExporter {
+
+    private static final String LINE_SEPARATOR = "\r\n";
+    private static final String EXPORTED_BADGES = "exported_badges_";
+
+    private static final ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = Executors.defaultThreadFactory().newThread(r);
+        thread.setName("BadgesCsvExporterThread");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final String header;
+    private final String exportKey;
+    private final List<Row> rows = new ArrayList<>();
+
+    /**
+     * Takes a snapshot of the badges to export. Must be called from the
+     * JavaFX Application thread, as the list and the badges can change on it.
+     * @param header the CSV header line
+     * @param badges the badges to export
+     * @param exportId identifies the list of badges (conference and badge type or sponsor),
+     *                 to track which badges were already exported
+     */
+    public BadgesCsvExporter(String header, List<? extends Badge> badges, String exportId) {
+        this.header = header;
+        this.exportKey = EXPORTED_BADGES + exportId;
+        for (Badge badge : badges) {
+            rows.add(new Row(badge.getBadgeId(), badge.getCSVFields()));
+        }
+    }
+
+    /**
+     * @return true if any of the badges was included in a previous export
+     */
+    public boolean hasExportedBadges() {
+        return rows.stream().anyMatch(row -> isExported(row.id));
+    }
+
+    /**
+     * @return the number of badges that haven't been exported yet
+     */
+    public long countNewBadges() {
+        return rows.stream().filter(row -> ! isExported(row.id)).count();
+    }
+
+    /**
+     * Creates and starts the task that writes the CSV file. Once the file
+     * is written, the exported badges are marked as such.
+     * @param file the CSV file
+     * @param onlyNew if true, only the badges that haven't been exported yet are written
+     * @return the running task, that succeeds with the written file
+     */
+    public Task<File> export(File file, boolean onlyNew) {
+        final List<Row> exportedRows = new ArrayList<>();
+        for (Row row : rows) {
+            if (! onlyNew || ! isExported(row.id)) {
+                exportedRows.add(row);
+            }
+        }
+        Task<File> task = new Task<File>() {
+            @Override
+            protected File call() throws Exception {
+                File temp = new File(file.getParentFile(), file.getName() + ".tmp");
+                final int total = exportedRows.size();
+                try (Writer writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(temp), StandardCharsets.UTF_8))) {
+                    writer.write(header);
+                    writer.write(LINE_SEPARATOR);
+                    for (int i = 0; i < total; i++) {
+                        if (isCancelled()) {
+                            break;
+                        }
+                        writeRow(writer, exportedRows.get(i).fields);
+                        updateProgress(i + 1, total);
+                    }
+                }
+                if (isCancelled()) {
+                    temp.delete();
+                    return null;
+                }
+                if (file.exists()) {
+                    file.delete();
+                }
+                if (! temp.renameTo(file)) {
+                    throw new IOException("Error renaming " + temp + " to " + file);
+                }
+                for (Row row : exportedRows) {
+                    if (row.id != null) {
+                        LocalSettingsStore.add(exportKey, row.id);
+                    }
+                }
+                return file;
+            }
+        };
+        executor.execute(task);
+        return task;
+    }
+
+    /**
+     * Quotes a CSV field if it contains a comma, a double quote or a line break,
+     * doubling the double quotes it contains
+     * @param field the field value
+     * @return the field ready to be written in a CSV record
+     */
+    public static String quote(String field) {
+        if (field == null) {
+            return "";
+        }
+        if (field.indexOf(',') < 0 && field.indexOf('"') < 0 &&
+                field.indexOf('\r') < 0 && field.indexOf('\n') < 0) {
+            return field;
+        }
+        return "\"" + field.replace("\"", "\"\"") + "\"";
+    }
+
+    private boolean isExported(String badgeId) {
+        return badgeId != null && LocalSettingsStore.contains(exportKey, badgeId);
+    }
+
+    private static void writeRow(Writer writer, List<String> fields) throws IOException {
+        for (int i = 0; i < fields.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(quote(fields.get(i)));
+        }
+        writer.write(LINE_SEPARATOR);
+    }
+
+    private static class Row {
+        private final String id;
+        private final List<String> fields;
+
+        Row(String id, List<String> fields) {
+            this.id = id;
+            this.fields = fields;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2018, Gluon Software
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the
+ * following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation and/or other materials provided
+ *    with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse
+ *    or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES,
+ * INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.devoxx.util;
+
+import com.devoxx.model.Conference;
+import com.devoxx.model.Session;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import static java.time.temporal.ChronoUnit.SECONDS;
+
+/**
+ * Facts about the schedule of a conference that are derived from its sessions:
+ * the last session of the last day, and the time the rating of the conference
+ * should be requested.
+ *
+ * It is computed in a single pass over the sessions, and it has to be discarded
+ * when the sessions change.
+ */
+public class ConferenceTimeline {
+
+    private final Session lastSessionOfLastDay;
+    private final ZonedDateTime ratingDateTime;
+    private final Instant ratingInstant;
+
+    public ConferenceTimeline(Conference conference, List<Session> sessions) {
+        LocalDate lastDay = conference.getEndDateTime() == null ? null : conference.getEndDateTime().toLocalDate();
+        Session lastSession = sessions.isEmpty() ? null : sessions.get(0);
+        for (Session session : sessions) {
+            ZonedDateTime startDate = session.getStartDate();
+            if (startDate == null) {
+                continue;
+            }
+            if (startDate.toLocalDate().equals(lastDay) && lastSession.getStartDate() != null && startDate.isAfter(lastSession.getStartDate())) {
+                lastSession = session;
+            }
+        }
+        lastSessionOfLastDay = lastSession;
+
+        if (lastSession != null && lastSession.getStartDate() != null) {
+            // an hour before the last session begins
+            ZonedDateTime dateTime = lastSession.getStartDate().minusHours(1);
+            if (DevoxxSettings.NOTIFICATION_TESTS) {
+                dateTime = dateTime.minus(DevoxxSettings.NOTIFICATION_OFFSET, SECONDS);
+            }
+            ratingDateTime = dateTime;
+            ratingInstant = dateTime.toInstant();
+        } else {
+            ratingDateTime = null;
+            ratingInstant = null;
+        }
+    }
+
+    /**
+     * @return the last session of the last day of the conference, or the first session
+     * if there are none that day, or null if there are no sessions
+     */
+    public Session getLastSessionOfLastDay() {
+        return lastSessionOfLastDay;
+    }
+
+    /**
+     * @return the time when the rating of the conference is requested, or null if there are no sessions
+     */
+    public ZonedDateTime getRatingDateTime() {
+        return ratingDateTime;
+    }
+
+    /**
+     * @param now the current instant
+     * @return true if the rating of the conference can be requested
+     */
+    public boolean isRatingDue(Instant now) {
+        return ratingInstant != null && now.isAfter(ratingInstant);
+    }
+}
@@ -30,25 +30,35 @@ import com.devoxx.model.Conference;
 import com.devoxx.model.Session;
 import com.devoxx.service.Service;
 import com.devoxx.views.SessionPresenter;
-import com.devoxx.views.helper.Util;
 import com.gluonhq.charm.down.Services;
+import com.gluonhq.charm.down.plugins.LifecycleEvent;
+import com.gluonhq.charm.down.plugins.LifecycleService;
 import com.gluonhq.charm.down.plugins.LocalNotificationsService;
-import com.gluonhq.charm.down.plugins.Notification;
+import com.gluonhq.charm.down.plugins.SettingsService;
+import javafx.animation.PauseTransition;
+import javafx.application.Platform;
 import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
 import javafx.collections.ListChangeListener;
+import javafx.util.Duration;
 
+import javax.annotation.PostConstruct;
 import javax.inject.Inject;
 import javax.inject.Singleton;
+import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import static com.devoxx.util.DevoxxLogging.LOGGING_ENABLED;
+import static java.time.temporal.ChronoUnit.MILLIS;
 import static java.time.temporal.ChronoUnit.SECONDS;
 
 @Singleton
@@ -67,24 +77,95 @@ public class DevoxxNotifications {
     private final static String TITLE_SESSION_STARTS = DevoxxBundle.getString("OTN.VISUALS.SESSION_STARTING_SOON");
     private final static int SHOW_VOTE_NOTIFICATION = -2; // show vote notification two minutes before session ends
     private final static int SHOW_SESSION_START_NOTIFICATION = -15; // show session start warning 15 minutes before posted start time
-    
-    private final Map<String, Notification> startSessionNotificationMap = new HashMap<>();
-    private final Map<String, Notification> voteSessionNotificationMap = new HashMap<>();
-    private final Map<String, Notification> ratingNotificationMap = new HashMap<>();
-    private final Map<String, Notification> dummyNotificationMap = new HashMap<>();
+    private final static int MAX_SCHEDULED_NOTIFICATIONS = 48; // iOS keeps up to 64 pending local notifications per app
+    private final static int SCHEDULING_HORIZON = 24; // only notifications due in the next 24 hours are scheduled on the device
+
+    /**
+     * All the notifications that should exist, by notification id.
+     * The scheduler decides which of them are scheduled on the device.
+     */
+    private final Map<String, NotificationEntry> notificationEntries = new HashMap<>();
+    private final NotificationScheduler scheduler;
+    private final NotificationStore store = new NotificationStore();
+
+    /**
+     * Ids of the session notifications created while preloading the favored sessions,
+     * used to drop restored notifications of sessions that are no longer favored
+     */
+    private final Set<String> preloadedIds = new HashSet<>();
+
+    private final PauseTransition refillTimer = new PauseTransition();
+    private boolean paused;
 
     private InvalidationListener ratingListener;
     private ListChangeListener<Session> favoriteSessionsListener;
 
     @Inject
     private Service service;
-    
-    private final Optional<LocalNotificationsService> notificationsService;
-    private boolean startup;
-    private boolean authenticatedStartup;
 
     public DevoxxNotifications() {
-        notificationsService = Services.get(LocalNotificationsService.class);
+        scheduler = new NotificationScheduler(Services.get(LocalNotificationsService.class), MAX_SCHEDULED_NOTIFICATIONS,
+                java.time.Duration.ofHours(SCHEDULING_HORIZON));
+        refillTimer.setOnFinished(e -> refill());
+        Services.get(LifecycleService.class).ifPresent(lifecycleService -> {
+            lifecycleService.addListener(LifecycleEvent.PAUSE, () -> Platform.runLater(() -> {
+                paused = true;
+                refillTimer.stop();
+            }));
+            lifecycleService.addListener(LifecycleEvent.RESUME, () -> Platform.runLater(() -> {
+                paused = false;
+                refill();
+            }));
+        });
+    }
+
+    /**
+     * Restores the notifications persisted in the previous run for the saved conference,
+     * so their handlers are available before the sessions are downloaded, and so the
+     * following passes only reschedule on the device the notifications that changed
+     */
+    @PostConstruct
+    private void postConstruct() {
+        final String conferenceId = Services.get(SettingsService.class)
+                .map(settings -> settings.retrieve(DevoxxSettings.SAVED_CONFERENCE_ID))
+                .orElse(null);
+        if (conferenceId == null) {
+            return;
+        }
+        List<NotificationEntry> entries = new ArrayList<>();
+        Set<String> scheduledIds = new HashSet<>();
+        for (NotificationStore.StoredNotification stored : store.load(conferenceId)) {
+            NotificationEntry entry = new NotificationEntry(stored.id, stored.title, stored.text, stored.dateTime, getRunnable(stored.id));
+            entries.add(entry);
+            notificationEntries.put(entry.getId(), entry);
+            if (stored.scheduled) {
+                scheduledIds.add(entry.getId());
+            }
+        }
+        if (entries.isEmpty()) {
+            return;
+        }
+        if (LOGGING_ENABLED) {
+            LOG.log(Level.INFO, String.format("Restored %d notifications for conference %s", entries.size(), conferenceId));
+        }
+        final ZonedDateTime now = now();
+        scheduler.restore(entries, scheduledIds, now);
+        startRefillTimer(now);
+
+        // restored notifications don't apply if a different conference is selected
+        service.conferenceProperty().addListener(new InvalidationListener() {
+            @Override
+            public void invalidated(Observable observable) {
+                final Conference conference = service.getConference();
+                if (conference != null) {
+                    service.conferenceProperty().removeListener(this);
+                    if (!conferenceId.equals(conference.getId())) {
+                        entries.forEach(entry -> notificationEntries.remove(entry.getId(), entry));
+                        schedule();
+                    }
+                }
+            }
+        });
     }
 
     /**
@@ -92,35 +173,18 @@ public class DevoxxNotifications {
      * - One notification will be triggered by the device before the session starts
      * - One notification will be triggered by the device right before the session ends
      * 
-     * We create the notifications and schedule them on the device, but only for future events. 
+     * The notifications are scheduled on the device only for future events. 
      * 
      * @param session The new favored session
      */
     public final void addFavoriteSessionNotifications(Session session) {
-        final String sessionId = session.getTalk().getId();
-        
-        if (!startSessionNotificationMap.containsKey(sessionId)) {
-            createStartNotification(session).ifPresent(notification -> {
-                startSessionNotificationMap.put(sessionId, notification);
-                notificationsService.ifPresent(n -> n.getNotifications().add(notification));
-            });
-        }
-        
-        if (!voteSessionNotificationMap.containsKey(sessionId)) {
-            createVoteNotification(session).ifPresent(notification -> {
-                voteSessionNotificationMap.put(sessionId, notification);
-                notificationsService.ifPresent(n -> n.getNotifications().add(notification));
-            });
-        }
+        putSessionEntries(session);
+        schedule();
     }
 
     public void addRatingNotification(Conference conference) {
-        if (!ratingNotificationMap.containsKey(conference.getId())) {
-            createRatingNotification(conference).ifPresent(notification -> {
-                ratingNotificationMap.put(conference.getId(), notification);
-                notificationsService.ifPresent(n -> n.getNotifications().add(notification));
-            });
-        }
+        putRatingEntry(conference);
+        schedule();
     }
     
     /**
@@ -129,14 +193,35 @@ public class DevoxxNotifications {
      * @param session session removed as favorite 
      */
     public final void removeFavoriteSessionNotifications(Session session) {
-        final Notification startNotification = startSessionNotificationMap.remove(session.getTalk().getId());
-        if (startNotification != null) { 
-            notificationsService.ifPresent(n -> n.getNotifications().remove(startNotification));
+        notificationEntries.remove(ID_START + session.getTalk().getId());
+        notificationEntries.remove(ID_VOTE + session.getTalk().getId());
+        schedule();
+    }
+
+    /**
+     * Called when some sessions have been patched after a change in the schedule.
+     * Only the notifications of these sessions that were already favored are
+     * recreated, and only the ones that changed are rescheduled on the device.
+     * @param patched the sessions that were updated or added
+     * @param removed the sessions that are no longer in the schedule
+     */
+    public void updateSessionNotifications(List<Session> patched, List<Session> removed) {
+        for (Session session : removed) {
+            if (session.getTalk() != null) {
+                notificationEntries.remove(ID_START + session.getTalk().getId());
+                notificationEntries.remove(ID_VOTE + session.getTalk().getId());
+            }
+        }
+        for (Session session : patched) {
+            if (session.getTalk() != null && notificationEntries.containsKey(ID_START + session.getTalk().getId())) {
+                putSessionEntries(session);
+            }
         }
-        final Notification voteNotification = voteSessionNotificationMap.remove(session.getTalk().getId());
-        if (voteNotification != null) { 
-            notificationsService.ifPresent(n -> n.getNotifications().remove(voteNotification));
+        final Conference conference = service.getConference();
+        if (conference != null && notificationEntries.containsKey(ID_RATE + conference.getId())) {
+            putRatingEntry(conference);
         }
+        schedule();
     }
 
     /**
@@ -147,10 +232,9 @@ public class DevoxxNotifications {
         if (LOGGING_ENABLED) {
             LOG.log(Level.INFO, "Preload of rating notifications started");
         }
-        startup = true;
         ratingListener = observable -> {
             if (service.retrieveSessions().size() > 0) {
-                addAlreadyRatingNotifications();
+                putRatingEntry(service.getConference());
                 service.retrieveSessions().removeListener(ratingListener);
             }
         };
@@ -166,7 +250,7 @@ public class DevoxxNotifications {
             LOG.log(Level.INFO, "Preload of favored sessions started");
         }
         if (service.isAuthenticated()) { 
-            authenticatedStartup = true;
+            preloadedIds.clear();
             favoriteSessionsListener = (ListChangeListener.Change<? extends Session> c) -> {
                 while (c.next()) {
                     if (c.wasAdded()) {
@@ -174,7 +258,9 @@ public class DevoxxNotifications {
                             if (LOGGING_ENABLED) {
                                 LOG.log(Level.INFO, String.format("Adding notification %s", session.getTalk().getId()));
                             }
-                            addAlreadyFavoredSessionNotifications(session);
+                            putSessionEntries(session);
+                            preloadedIds.add(ID_START + session.getTalk().getId());
+                            preloadedIds.add(ID_VOTE + session.getTalk().getId());
                         }
                     }
                 }
@@ -189,13 +275,16 @@ public class DevoxxNotifications {
     /**
      * Called after the application has started and pre-loading the favored sessions
      * ends. At this point, we have all the notifications available, and we can remove
-     * the listener (so new notifications are not treated as already scheduled) and 
-     * send them to the Local Notifications service at once
+     * the listener and send them to the Local Notifications service at once
      */
     public void preloadingNotificationsDone() {
         if (favoriteSessionsListener != null) {
             service.retrieveFavoredSessions().removeListener(favoriteSessionsListener);
             favoriteSessionsListener = null;
+            // restored session notifications that were not preloaded are no longer favored
+            notificationEntries.keySet().removeIf(id ->
+                    (id.startsWith(ID_START) || id.startsWith(ID_VOTE)) && !preloadedIds.contains(id));
+            preloadedIds.clear();
         }
 
         if (ratingListener != null) {
@@ -203,283 +292,218 @@ public class DevoxxNotifications {
             ratingListener = null;
         }
 
-        if (! dummyNotificationMap.isEmpty()) {
-
-            // 1. Add all dummy notifications to the notification map at once.
-            // These need to be present all the time (as notifications will
-            // be opened always some time after they were delivered).
-            // Adding these dummy notifications doesn't schedule them on the
-            // device and it doesn't cause duplicate exceptions
-            notificationsService.ifPresent(ns ->
-                    ns.getNotifications().addAll(dummyNotificationMap.values()));
-        }
-
-        // process notifications at once
-        List<Notification> notificationList = new ArrayList<>();
-        notificationList.addAll(startSessionNotificationMap.values());
-        notificationList.addAll(voteSessionNotificationMap.values());
-        notificationList.addAll(ratingNotificationMap.values());
-
-        if (! notificationList.isEmpty()) {
-
-            // 2. Schedule only real future notifications
-            final ZonedDateTime now = ZonedDateTime.now(service.getConference().getConferenceZoneId());
-            notificationsService.ifPresent(ns -> {
-                for (Notification n : notificationList) {
-                    if (n.getDateTime() != null && n.getDateTime().isAfter(now)) {
-                        // Remove notification before scheduling it again,
-                        // to avoid duplicate exception
-                        final Notification dummyN = dummyNotificationMap.get(n.getId());
-                        if (dummyN != null) {
-                            if (LOGGING_ENABLED) {
-                                LOG.log(Level.INFO, String.format("Removing notification %s", n.getId()));
-                            }
-                            ns.getNotifications().remove(dummyN);
-                        }
-                        if (LOGGING_ENABLED) {
-                            LOG.log(Level.INFO, String.format("Adding favored notification %s", n.getId()));
-                        }
-                        ns.getNotifications().add(n);
-                    }
-                }
-            });
-        }
-
-        dummyNotificationMap.clear();
+        schedule();
 
-        startup = false;
-        authenticatedStartup = false;
         if (LOGGING_ENABLED) {
             LOG.log(Level.INFO, "Preload of favored sessions ended");
         }
     }
-    
+
     /**
-     * Creates a notification that will be triggered by the device before the session starts
-     * @param session the favored session
-     * @return a notification if the event is in the future
+     * Applies the current set of notification entries to the Local Notifications
+     * service, using a single reference time for the whole pass
      */
-    private Optional<Notification> createStartNotification(Session session) {
-        final ZonedDateTime now = ZonedDateTime.now(service.getConference().getConferenceZoneId());
-        
-        // Add notification 15 min before session starts or during authenticatedStartup
-        ZonedDateTime dateTimeStart = session.getStartDate().plusMinutes(SHOW_SESSION_START_NOTIFICATION);
-        if (DevoxxSettings.NOTIFICATION_TESTS) {
-            dateTimeStart = dateTimeStart.minus(DevoxxSettings.NOTIFICATION_OFFSET, SECONDS);
-            if (LOGGING_ENABLED) {
-                LOG.log(Level.INFO, String.format("Start notification scheduled at: %s", dateTimeStart));
-            }
-        }
-        
-        // add the notification for new ones if they haven't started yet
-        if (dateTimeStart.isAfter(now) || authenticatedStartup) {
-            return Optional.of(getStartNotification(session, dateTimeStart));
-        }
-        return Optional.empty();
+    private void schedule() {
+        final ZonedDateTime now = now();
+        scheduler.apply(notificationEntries.values(), now);
+        startRefillTimer(now);
+        save();
     }
-    
+
     /**
-     * Creates a notification that will be triggered by the device right before the session ends
-     * @param session the favored session
-     * @return a notification if the session wasn't added yet and it was already scheduled or 
-     * the event is in the future
+     * Schedules on the device the pending notifications that entered the horizon
+     * since the last pass
      */
-    private Optional<Notification> createVoteNotification(Session session) {
-        final ZonedDateTime now = ZonedDateTime.now(service.getConference().getConferenceZoneId());
-        
-        // Add notification 2 min before session ends
-        ZonedDateTime dateTimeVote = session.getEndDate().plusMinutes(SHOW_VOTE_NOTIFICATION);
-        if (DevoxxSettings.NOTIFICATION_TESTS) {
-            dateTimeVote = dateTimeVote.minus(DevoxxSettings.NOTIFICATION_OFFSET, SECONDS);
-            if (LOGGING_ENABLED) {
-                LOG.log(Level.INFO, String.format("Vote notification scheduled at: %s", dateTimeVote));
-            }
-        }
-        
-        // add the notification if the session hasn't finished yet or during authenticatedStartup
-        if (dateTimeVote.isAfter(now) || authenticatedStartup) {
-            return Optional.of(getVoteNotification(session, dateTimeVote));
+    private void refill() {
+        final ZonedDateTime now = now();
+        scheduler.refill(now);
+        startRefillTimer(now);
+        save();
+    }
+
+    private void save() {
+        final Conference conference = service.getConference();
+        if (conference != null) {
+            store.save(conference.getId(), notificationEntries.values(), scheduler.getScheduledIds());
         }
-        return Optional.empty();
     }
 
     /**
-     * Creates a notification that will be triggered by the device right before the end of the conference
-     * @param conference Conference for which the notification has to be triggered
-     * @return a notification if the session wasn't added yet and it was already scheduled or
-     * the event is in the future
+     * While the app is in the foreground, refills when the next pending notification
+     * enters the horizon. Otherwise this is done when the app resumes.
      */
-    private Optional<Notification> createRatingNotification(Conference conference) {
-        final ZonedDateTime now = ZonedDateTime.now(conference.getConferenceZoneId());
-
-        // Add notification an hour before the last session begins
-        ZonedDateTime dateTimeRating = Util.findLastSessionOfLastDay(service).getStartDate().minusHours(1);
-        if (DevoxxSettings.NOTIFICATION_TESTS) {
-            dateTimeRating = dateTimeRating.minus(DevoxxSettings.NOTIFICATION_OFFSET, SECONDS);
-            if (LOGGING_ENABLED) {
-                LOG.log(Level.INFO, String.format("Rating notification scheduled at: %s", dateTimeRating));
-            }
+    private void startRefillTimer(ZonedDateTime now) {
+        refillTimer.stop();
+        if (paused) {
+            return;
         }
+        scheduler.getNextRefill(now).ifPresent(nextRefill -> {
+            refillTimer.setDuration(Duration.millis(Math.max(0, MILLIS.between(now, nextRefill)) + 1000));
+            refillTimer.playFromStart();
+        });
+    }
 
-        // add the notification if the time is in future or is startup is true
-        if (dateTimeRating.isAfter(now) || startup) {
-            return Optional.of(getRatingNotification(conference, dateTimeRating));
-        }
-        return Optional.empty();
+    private ZonedDateTime now() {
+        final Conference conference = service.getConference();
+        return ZonedDateTime.now(conference != null ? conference.getConferenceZoneId() : ZoneId.systemDefault());
     }
-    
+
     /**
-     * For an already favored session, we create two local notifications.
-     * 
-     * These notifications are not sent to the Local Notification service yet: 
-     * this will be done when calling {@link #preloadingNotificationsDone()}.
-     * 
-     * We don't schedule them again on the device, but we add these notifications to the 
-     * notifications map, so in case they are delivered, their runnable is available.
-     * 
-     * @param session The already favored session
+     * Once a delivered notification is opened, time has advanced: later
+     * notifications might need to be scheduled on the device
      */
-    private void addAlreadyFavoredSessionNotifications(Session session) {
-        final String sessionId = session.getTalk().getId();
-        
-        final ZonedDateTime now = ZonedDateTime.now(service.getConference().getConferenceZoneId());
+    private Runnable andRefill(Runnable runnable) {
+        return () -> {
+            runnable.run();
+            refill();
+        };
+    }
+
+    /**
+     * Creates the entries of the notifications triggered by the device before 
+     * the session starts and right before the session ends
+     * @param session the favored session
+     */
+    private void putSessionEntries(Session session) {
         // Add notification 15 min before session starts
         ZonedDateTime dateTimeStart = session.getStartDate().plusMinutes(SHOW_SESSION_START_NOTIFICATION);
-        if (DevoxxSettings.NOTIFICATION_TESTS) {
-            dateTimeStart = dateTimeStart.minus(DevoxxSettings.NOTIFICATION_OFFSET, SECONDS);
-        }
-        
-        if (dateTimeStart.isAfter(now) || authenticatedStartup) {
-            if (!startSessionNotificationMap.containsKey(sessionId)) {
-                dummyNotificationMap.put(ID_START + sessionId, getStartNotification(session, null));
-
-                // Add notification
-                createStartNotification(session).ifPresent(n -> {
-                    if (LOGGING_ENABLED) {
-                        LOG.log(Level.INFO, String.format("Adding start notification %s", n.getId()));
-                    }
-                    startSessionNotificationMap.put(sessionId, n);
-                });
-            }
-        }
-        
         // Add notification 2 min before session ends
         ZonedDateTime dateTimeVote = session.getEndDate().plusMinutes(SHOW_VOTE_NOTIFICATION);
         if (DevoxxSettings.NOTIFICATION_TESTS) {
+            dateTimeStart = dateTimeStart.minus(DevoxxSettings.NOTIFICATION_OFFSET, SECONDS);
             dateTimeVote = dateTimeVote.minus(DevoxxSettings.NOTIFICATION_OFFSET, SECONDS);
-        }
-        if (dateTimeVote.isAfter(now) || authenticatedStartup) {
-            if (!voteSessionNotificationMap.containsKey(sessionId)) {
-                dummyNotificationMap.put(ID_VOTE + sessionId, getVoteNotification(session, null));
-                
-                createVoteNotification(session).ifPresent(n -> {
-                    if (LOGGING_ENABLED) {
-                        LOG.log(Level.INFO, String.format("Adding vote notification %s", n.getId()));
-                    }
-                    voteSessionNotificationMap.put(sessionId, n);
-                });
+            if (LOGGING_ENABLED) {
+                LOG.log(Level.INFO, String.format("Start notification scheduled at: %s", dateTimeStart));
+                LOG.log(Level.INFO, String.format("Vote notification scheduled at: %s", dateTimeVote));
             }
         }
+        NotificationEntry start = getStartNotification(session, dateTimeStart);
+        notificationEntries.put(start.getId(), start);
+        NotificationEntry vote = getVoteNotification(session, dateTimeVote);
+        notificationEntries.put(vote.getId(), vote);
     }
 
-    private void addAlreadyRatingNotifications() {
-        final Conference conference = service.getConference();
-
-        final ZonedDateTime now = ZonedDateTime.now(service.getConference().getConferenceZoneId());
+    /**
+     * Creates the entry of the notification triggered by the device right before the end of the conference
+     * @param conference Conference for which the notification has to be triggered
+     */
+    private void putRatingEntry(Conference conference) {
         // Add notification an hour before the last session begins
-        ZonedDateTime dateTimeRating = Util.findLastSessionOfLastDay(service).getStartDate().minusHours(1);
-        if (DevoxxSettings.NOTIFICATION_TESTS) {
-            dateTimeRating = dateTimeRating.minus(DevoxxSettings.NOTIFICATION_OFFSET, SECONDS);
+        ConferenceTimeline timeline = service.getConferenceTimeline();
+        if (timeline == null) {
+            return;
         }
-
-        // add the notification if the time is in future
-        if (dateTimeRating.isAfter(now)  || startup) {
-            if (!ratingNotificationMap.containsKey(conference.getId())) {
-                dummyNotificationMap.put(ID_RATE + conference.getId(), getRatingNotification(conference, null));
-
-                createRatingNotification(conference).ifPresent(n -> {
-                    if (LOGGING_ENABLED) {
-                        LOG.log(Level.INFO, String.format("Adding rating notification %s", n.getId()));
-                    }
-                    ratingNotificationMap.put(conference.getId(), n);
-                });
-            }
+        ZonedDateTime dateTimeRating = timeline.getRatingDateTime();
+        if (dateTimeRating == null) {
+            return;
+        }
+        if (DevoxxSettings.NOTIFICATION_TESTS && LOGGING_ENABLED) {
+            LOG.log(Level.INFO, String.format("Rating notification scheduled at: %s", dateTimeRating));
         }
+        NotificationEntry rating = getRatingNotification(conference, dateTimeRating);
+        notificationEntries.put(rating.getId(), rating);
     }
     
     /**
      * Creates a notification that will be triggered by the device before the session starts
      * 
      * @param session the favored session
-     * @param dateTimeStart the session's start zoned date time. If null, this notification won't be 
-     * scheduled on the device
-     * @return a local notification
+     * @param dateTimeStart the session's start zoned date time
+     * @return a local notification entry
      */
-    private Notification getStartNotification(Session session, ZonedDateTime dateTimeStart) {
-        return new Notification(
+    private NotificationEntry getStartNotification(Session session, ZonedDateTime dateTimeStart) {
+        return new NotificationEntry(
                 ID_START + session.getTalk().getId(),
                 TITLE_SESSION_STARTS, 
                 DevoxxBundle.getString("OTN.VISUALS.IS_ABOUT_TO_START", session.getTitle()),
-                DevoxxNotifications.class.getResourceAsStream("/icon.png"),
                 dateTimeStart,
-                () -> {
-                    if (LOGGING_ENABLED) {
-                        LOG.log(Level.INFO, String.format("Running start notification %s", session.getTalk().getId()));
-                    }
-                    DevoxxView.SESSION.switchView().ifPresent(presenter -> {
-                        SessionPresenter sessionPresenter = (SessionPresenter) presenter;
-                        sessionPresenter.showSession(session);
-                    });
-                });
+                getStartRunnable(session.getTalk().getId()));
     }
     
     /**
      * Creates a notification that will be triggered by the device right before the session ends
      * @param session the favored session
-     * @param dateTimeVote the session's end zoned date time. If null, this notification won't be 
-     * scheduled on the device
-     * @return a local notification
+     * @param dateTimeVote the session's end zoned date time
+     * @return a local notification entry
      */
-    private Notification getVoteNotification(Session session, ZonedDateTime dateTimeVote) {
-        return new Notification(
+    private NotificationEntry getVoteNotification(Session session, ZonedDateTime dateTimeVote) {
+        return new NotificationEntry(
                 ID_VOTE + session.getTalk().getId(),
                 TITLE_VOTE_SESSION,
                 DevoxxBundle.getString("OTN.VISUALS.CAST_YOUR_VOTE_ON", session.getTitle()),
-                DevoxxNotifications.class.getResourceAsStream("/icon.png"),
                 dateTimeVote,
-                () -> {
-                    if (LOGGING_ENABLED) {
-                        LOG.log(Level.INFO, String.format("Running vote notification %s", session.getTalk().getId()));
-                    }
-                    // first go to the session
-                    DevoxxView.SESSION.switchView().ifPresent(presenter -> {
-                        SessionPresenter sessionPresenter = (SessionPresenter) presenter;
-                        sessionPresenter.showSession(session, SessionPresenter.Pane.VOTE);
-                    });
-                });
+                getVoteRunnable(session.getTalk().getId()));
     }
 
     /**
      * Creates a notification that will be triggered by the device at the end of a conference,
      * requesting users to rate for the app
      * @param conference Conference for which the notification is to be scheduled
-     * @param dateTimeRating Zoned date time at which the notification is to be shown.
-     * If null, this notification won't be scheduled on the device
-     * @return a local notification
+     * @param dateTimeRating Zoned date time at which the notification is to be shown
+     * @return a local notification entry
      */
-    private Notification getRatingNotification(Conference conference, ZonedDateTime dateTimeRating) {
-        return new Notification(
+    private NotificationEntry getRatingNotification(Conference conference, ZonedDateTime dateTimeRating) {
+        return new NotificationEntry(
             ID_RATE + conference.getId(),
             TITLE_RATE_DEVOXX,
             DevoxxBundle.getString("OTN.VISUALS.HELP_US_IMPROVE_DEVOXX"),
-            DevoxxNotifications.class.getResourceAsStream("/icon.png"),
             dateTimeRating,
-            () -> {
-                if (LOGGING_ENABLED) {
-                    LOG.log(Level.INFO, String.format("Running rating notification %s", conference.getId()));
-                }
-                DevoxxView.SESSIONS.switchView();
-            }
+            getRatingRunnable(conference.getId())
         );
     }
+
+    /**
+     * Runnables only depend on the notification id, so they can be recreated
+     * for notifications restored from a previous run
+     * @param id the notification id
+     * @return the runnable to run when the notification is opened
+     */
+    private Runnable getRunnable(String id) {
+        if (id.startsWith(ID_START)) {
+            return getStartRunnable(id.substring(ID_START.length()));
+        } else if (id.startsWith(ID_VOTE)) {
+            return getVoteRunnable(id.substring(ID_VOTE.length()));
+        }
+        return getRatingRunnable(id.substring(ID_RATE.length()));
+    }
+
+    private Runnable getStartRunnable(String talkId) {
+        return andRefill(() -> {
+            if (LOGGING_ENABLED) {
+                LOG.log(Level.INFO, String.format("Running start notification %s", talkId));
+            }
+            showSession(talkId, SessionPresenter.Pane.INFO);
+        });
+    }
+
+    private Runnable getVoteRunnable(String talkId) {
+        return andRefill(() -> {
+            if (LOGGING_ENABLED) {
+                LOG.log(Level.INFO, String.format("Running vote notification %s", talkId));
+            }
+            showSession(talkId, SessionPresenter.Pane.VOTE);
+        });
+    }
+
+    private Runnable getRatingRunnable(String conferenceId) {
+        return andRefill(() -> {
+            if (LOGGING_ENABLED) {
+                LOG.log(Level.INFO, String.format("Running rating notification %s", conferenceId));
+            }
+            DevoxxView.SESSIONS.switchView();
+        });
+    }
+
+    private void showSession(String talkId, SessionPresenter.Pane pane) {
+        Optional<Session> session = service.findSession(talkId);
+        if (session.isPresent()) {
+            DevoxxView.SESSION.switchView().ifPresent(presenter -> {
+                SessionPresenter sessionPresenter = (SessionPresenter) presenter;
+                sessionPresenter.showSession(session.get(), pane);
+            });
+        } else {
+            // sessions are not available yet
+            DevoxxView.SESSIONS.switchView();
+        }
+    }
 }
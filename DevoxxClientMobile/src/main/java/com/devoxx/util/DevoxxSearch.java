@@ -63,7 +63,11 @@ public class DevoxxSearch {
     );
 
     private final Collection<Supplier<Collection<? extends Searchable>>> authSearchables = Arrays.asList(
-            () -> service.retrieveNotes(),
+            () -> {
+                ObservableList<Note> notes = service.retrieveNotes();
+                service.flushNotes();
+                return notes;
+            },
             () -> service.retrieveBadges()
     );
 
@@ -0,0 +1,398 @@
+/*
+ * Copyright (c) 2018, Gluon Software
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the
+ * following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation and/or other materials provided
+ *    with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse
+ *    or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES,
+ * INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.devoxx.util;
+
+import com.gluonhq.connect.ConnectState;
+import com.gluonhq.connect.GluonObservableList;
+import com.gluonhq.connect.converter.JsonConverter;
+import javafx.application.Platform;
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
+import javafx.collections.ListChangeListener;
+
+import javax.json.Json;
+import javax.json.JsonException;
+import javax.json.JsonObject;
+import javax.json.JsonReader;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * An observable list of items persisted in an append-only journal file.
+ *
+ * Every addition, removal or change of an item appends a single record to the
+ * journal, so the cost of a write depends on the change and not on the size of
+ * the list. Records are written in batches on a background thread. When the
+ * journal holds too many stale records, it is compacted into a snapshot of the
+ * current items.
+ *
+ * @param <T> the type of the items
+ */
+public class JournaledList<T> {
+
+    private static final Logger LOG = Logger.getLogger(JournaledList.class.getName());
+
+    private static final String OP = "op";
+    private static final String OP_PUT = "put";
+    private static final String OP_REMOVE = "remove";
+    private static final String ID = "id";
+    private static final String VALUE = "value";
+
+    // minimum number of records before the journal is compacted
+    private static final int COMPACTION_MIN_RECORDS = 64;
+
+    private static final ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = Executors.defaultThreadFactory().newThread(r);
+        thread.setName("JournaledListThread");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final File file;
+    private final JsonConverter<T> converter;
+    private final Function<T, String> idFunction;
+    private final Function<T, Observable[]> extractor;
+
+    private final GluonObservableList<T> list = new GluonObservableList<>();
+    private final Map<String, T> index = new HashMap<>();
+    private final Map<String, ItemListener> itemListeners = new HashMap<>();
+    private final Set<String> dirtyIds = new LinkedHashSet<>();
+    private final List<String> pendingRecords = new ArrayList<>();
+    private boolean flushPending;
+    private boolean replaying;
+    private int records;
+
+    /**
+     * Creates the list and starts reading its journal in the background
+     * @param file the journal file
+     * @param type the class of the items
+     * @param idFunction returns the unique id of an item
+     * @param extractor returns the observables of an item that have to be persisted on change
+     */
+    public JournaledList(File file, Class<T> type, Function<T, String> idFunction, Function<T, Observable[]> extractor) {
+        this.file = file;
+        this.converter = new JsonConverter<>(type);
+        this.idFunction = idFunction;
+        this.extractor = extractor;
+
+        list.setState(ConnectState.RUNNING);
+        list.addListener((ListChangeListener<T>) this::onChanged);
+
+        final boolean exists = file.exists();
+        executor.execute(() -> {
+            Map<String, JsonObject> values = exists ? read() : new LinkedHashMap<>();
+            Platform.runLater(() -> loaded(values));
+        });
+    }
+
+    /**
+     * @return the observable list of items, in SUCCEEDED state once the journal has been read
+     */
+    public GluonObservableList<T> getList() {
+        return list;
+    }
+
+    /**
+     * @param id the id of an item
+     * @return the item with that id, or null if the list doesn't contain it
+     */
+    public T get(String id) {
+        return index.get(id);
+    }
+
+    private Map<String, JsonObject> read() {
+        Map<String, JsonObject> values = new LinkedHashMap<>();
+        int count = 0;
+        try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty()) {
+                    continue;
+                }
+                try (JsonReader jsonReader = Json.createReader(new StringReader(line))) {
+                    JsonObject record = jsonReader.readObject();
+                    String id = record.getString(ID);
+                    if (OP_REMOVE.equals(record.getString(OP))) {
+                        values.remove(id);
+                    } else {
+                        values.put(id, record.getJsonObject(VALUE));
+                    }
+                    count++;
+                } catch (JsonException | ClassCastException | NullPointerException e) {
+                    // a partially written last record is discarded
+                    LOG.log(Level.WARNING, "Skipping invalid record in journal " + file, e);
+                }
+            }
+        } catch (IOException e) {
+            LOG.log(Level.WARNING, "Error reading journal " + file, e);
+        }
+        final int total = count;
+        Platform.runLater(() -> records += total);
+        return values;
+    }
+
+    private void loaded(Map<String, JsonObject> values) {
+        List<T> items = new ArrayList<>();
+        for (Map.Entry<String, JsonObject> entry : values.entrySet()) {
+            // items added while the journal was being read take precedence
+            if (!index.containsKey(entry.getKey())) {
+                T item = converter.readFromJson(entry.getValue());
+                if (item != null) {
+                    items.add(item);
+                }
+            }
+        }
+        replaying = true;
+        list.addAll(0, items);
+        replaying = false;
+        items.forEach(this::track);
+        list.setState(ConnectState.SUCCEEDED);
+    }
+
+    private void onChanged(ListChangeListener.Change<? extends T> change) {
+        if (replaying) {
+            return;
+        }
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                continue;
+            }
+            for (T item : change.getRemoved()) {
+                String id = idFunction.apply(item);
+                // an item replaced by another with the same id is written as a single put
+                if (id != null && index.get(id) == item && !containsId(change.getAddedSubList(), id)) {
+                    untrack(item);
+                    dirtyIds.remove(id);
+                    append(Json.createObjectBuilder().add(OP, OP_REMOVE).add(ID, id).build());
+                }
+            }
+            for (T item : change.getAddedSubList()) {
+                if (index.get(idFunction.apply(item)) != item) {
+                    track(item);
+                    markDirty(item);
+                }
+            }
+        }
+    }
+
+    private boolean containsId(List<? extends T> items, String id) {
+        for (T other : items) {
+            if (id.equals(idFunction.apply(other))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void track(T item) {
+        String id = idFunction.apply(item);
+        if (id == null) {
+            return;
+        }
+        T previous = index.put(id, item);
+        if (previous != null && previous != item) {
+            untrackListener(id, previous);
+        }
+        ItemListener listener = new ItemListener(item, id);
+        for (Observable observable : extractor.apply(item)) {
+            observable.addListener(listener);
+        }
+        itemListeners.put(id, listener);
+    }
+
+    private void untrack(T item) {
+        String id = idFunction.apply(item);
+        index.remove(id);
+        untrackListener(id, item);
+    }
+
+    private void untrackListener(String id, T item) {
+        ItemListener listener = itemListeners.remove(id);
+        if (listener != null) {
+            removeListener(item, listener);
+        }
+    }
+
+    private void removeListener(T item, InvalidationListener listener) {
+        for (Observable observable : extractor.apply(item)) {
+            observable.removeListener(listener);
+        }
+    }
+
+    /**
+     * Moves an item whose id has changed from its previous id to the new one,
+     * so the journal doesn't keep it under both ids
+     */
+    private void rekey(T item, ItemListener listener, String previousId, String id) {
+        if (index.get(previousId) == item) {
+            index.remove(previousId);
+            itemListeners.remove(previousId);
+            dirtyIds.remove(previousId);
+            append(Json.createObjectBuilder().add(OP, OP_REMOVE).add(ID, previousId).build());
+        }
+        if (id == null) {
+            removeListener(item, listener);
+            return;
+        }
+        T previous = index.put(id, item);
+        if (previous != null && previous != item) {
+            untrackListener(id, previous);
+        }
+        itemListeners.put(id, listener);
+    }
+
+    private void markDirty(T item) {
+        String id = idFunction.apply(item);
+        if (id != null && dirtyIds.add(id)) {
+            scheduleFlush();
+        }
+    }
+
+    private void append(JsonObject record) {
+        pendingRecords.add(record.toString());
+        scheduleFlush();
+    }
+
+    private void scheduleFlush() {
+        if (flushPending) {
+            return;
+        }
+        flushPending = true;
+        // let the current changes coalesce before serializing them
+        Platform.runLater(this::flush);
+    }
+
+    private void flush() {
+        flushPending = false;
+        for (String id : dirtyIds) {
+            T item = index.get(id);
+            if (item != null) {
+                pendingRecords.add(Json.createObjectBuilder()
+                        .add(OP, OP_PUT)
+                        .add(ID, id)
+                        .add(VALUE, converter.writeToJson(item))
+                        .build().toString());
+            }
+        }
+        dirtyIds.clear();
+        if (pendingRecords.isEmpty()) {
+            return;
+        }
+        records += pendingRecords.size();
+        if (list.getState() == ConnectState.SUCCEEDED &&
+                records > COMPACTION_MIN_RECORDS && records > 2 * index.size()) {
+            pendingRecords.clear();
+            compact();
+            return;
+        }
+        final List<String> batch = new ArrayList<>(pendingRecords);
+        pendingRecords.clear();
+        executor.execute(() -> {
+            try (BufferedWriter writer = new BufferedWriter(new FileWriter(file, true))) {
+                for (String record : batch) {
+                    writer.write(record);
+                    writer.newLine();
+                }
+            } catch (IOException e) {
+                LOG.log(Level.WARNING, "Error writing journal " + file, e);
+            }
+        });
+    }
+
+    /**
+     * Replaces the journal with a snapshot of the current items
+     */
+    private void compact() {
+        final List<String> snapshot = new ArrayList<>();
+        for (T item : list) {
+            String id = idFunction.apply(item);
+            if (id != null) {
+                snapshot.add(Json.createObjectBuilder()
+                        .add(OP, OP_PUT)
+                        .add(ID, id)
+                        .add(VALUE, converter.writeToJson(item))
+                        .build().toString());
+            }
+        }
+        records = snapshot.size();
+        executor.execute(() -> {
+            File temp = new File(file.getParentFile(), file.getName() + ".tmp");
+            try (BufferedWriter writer = new BufferedWriter(new FileWriter(temp))) {
+                for (String record : snapshot) {
+                    writer.write(record);
+                    writer.newLine();
+                }
+            } catch (IOException e) {
+                LOG.log(Level.WARNING, "Error compacting journal " + file, e);
+                return;
+            }
+            if (!temp.renameTo(file)) {
+                file.delete();
+                temp.renameTo(file);
+            }
+        });
+    }
+
+    private class ItemListener implements InvalidationListener {
+
+        private final T item;
+        private String id;
+
+        ItemListener(T item, String id) {
+            this.item = item;
+            this.id = id;
+        }
+
+        @Override
+        public void invalidated(Observable observable) {
+            String newId = idFunction.apply(item);
+            if (!Objects.equals(id, newId)) {
+                String previousId = id;
+                id = newId;
+                rekey(item, this, previousId, newId);
+            }
+            markDirty(item);
+        }
+    }
+}
@@ -0,0 +1,277 @@
+/*
+ * Copyright (c) 2018, Gluon Software
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the
+ * following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation and/or other materials provided
+ *    with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse
+ *    or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES,
+ * INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.devoxx.util;
+
+import com.gluonhq.charm.down.Services;
+import com.gluonhq.charm.down.plugins.SettingsService;
+import com.gluonhq.charm.down.plugins.StorageService;
+
+import javax.json.Json;
+import javax.json.JsonArrayBuilder;
+import javax.json.JsonException;
+import javax.json.JsonObject;
+import javax.json.JsonObjectBuilder;
+import javax.json.JsonReader;
+import javax.json.JsonString;
+import javax.json.JsonWriter;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Small typed local store for sets of values (like conference ids) and
+ * string maps, kept in memory and backed by a single json file in the
+ * private storage.
+ *
+ * The file is read once, on first access. Changes are written back
+ * asynchronously: all the changes made before the pending write runs
+ * are saved together.
+ */
+public class LocalSettingsStore {
+
+    private static final Logger LOG = Logger.getLogger(LocalSettingsStore.class.getName());
+
+    private static final String FILE_NAME = "local_settings.json";
+
+    /**
+     * Keys that were stored as comma separated values in the SettingsService,
+     * and are migrated to this store on first load
+     */
+    private static final String[] CSV_KEYS = {DevoxxSettings.RATING,
+            DevoxxSettings.LOCAL_NOTIFICATION_RATING, DevoxxSettings.SESSION_FILTER};
+
+    private static final ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = Executors.defaultThreadFactory().newThread(r);
+        thread.setName("LocalSettingsStoreThread");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private static final Map<String, Set<String>> sets = new HashMap<>();
+    private static final Map<String, Map<String, String>> maps = new HashMap<>();
+
+    private static boolean loaded;
+    private static boolean savePending;
+
+    private LocalSettingsStore() {
+    }
+
+    /**
+     * Checks if a value was added to the set stored under the given key
+     * @param key the key of the set
+     * @param value the value to check
+     * @return true if the set contains the value
+     */
+    public static synchronized boolean contains(String key, String value) {
+        load();
+        Set<String> set = sets.get(key);
+        return set != null && set.contains(value);
+    }
+
+    /**
+     * Adds a value to the set stored under the given key
+     * @param key the key of the set
+     * @param value the value to add
+     */
+    public static synchronized void add(String key, String value) {
+        load();
+        if (sets.computeIfAbsent(key, k -> new HashSet<>()).add(value)) {
+            save();
+        }
+    }
+
+    /**
+     * Removes a value from the set stored under the given key
+     * @param key the key of the set
+     * @param value the value to remove
+     */
+    public static synchronized void remove(String key, String value) {
+        load();
+        Set<String> set = sets.get(key);
+        if (set != null && set.remove(value)) {
+            save();
+        }
+    }
+
+    /**
+     * Returns the value mapped to a name in the map stored under the given key
+     * @param key the key of the map
+     * @param name the name of the entry
+     * @return the value, or null if there is none
+     */
+    public static synchronized String get(String key, String name) {
+        load();
+        Map<String, String> map = maps.get(key);
+        return map == null ? null : map.get(name);
+    }
+
+    /**
+     * Maps a value to a name in the map stored under the given key
+     * @param key the key of the map
+     * @param name the name of the entry
+     * @param value the value, or null to remove the entry
+     */
+    public static synchronized void put(String key, String name, String value) {
+        load();
+        Map<String, String> map = maps.computeIfAbsent(key, k -> new HashMap<>());
+        String previous = value == null ? map.remove(name) : map.put(name, value);
+        if (previous == null ? value != null : !previous.equals(value)) {
+            save();
+        }
+    }
+
+    /**
+     * Removes the set and the map stored under the given key
+     * @param key the key to clear
+     */
+    public static synchronized void clear(String key) {
+        load();
+        boolean changed = sets.remove(key) != null;
+        changed |= maps.remove(key) != null;
+        if (changed) {
+            save();
+        }
+    }
+
+    private static void load() {
+        if (loaded) {
+            return;
+        }
+        loaded = true;
+        File file = getFile();
+        if (file != null && file.exists()) {
+            try (JsonReader reader = Json.createReader(new FileInputStream(file))) {
+                JsonObject object = reader.readObject();
+                JsonObject setsObject = object.getJsonObject("sets");
+                if (setsObject != null) {
+                    for (String key : setsObject.keySet()) {
+                        Set<String> set = new HashSet<>();
+                        for (JsonString value : setsObject.getJsonArray(key).getValuesAs(JsonString.class)) {
+                            set.add(value.getString());
+                        }
+                        sets.put(key, set);
+                    }
+                }
+                JsonObject mapsObject = object.getJsonObject("maps");
+                if (mapsObject != null) {
+                    for (String key : mapsObject.keySet()) {
+                        Map<String, String> map = new HashMap<>();
+                        JsonObject mapObject = mapsObject.getJsonObject(key);
+                        for (String name : mapObject.keySet()) {
+                            map.put(name, mapObject.getString(name));
+                        }
+                        maps.put(key, map);
+                    }
+                }
+            } catch (IOException | JsonException | ClassCastException e) {
+                LOG.log(Level.WARNING, "Error reading local settings file " + file, e);
+            }
+        }
+        migrate();
+    }
+
+    private static void migrate() {
+        Services.get(SettingsService.class).ifPresent(ss -> {
+            boolean migrated = false;
+            for (String key : CSV_KEYS) {
+                String values = ss.retrieve(key);
+                if (values != null) {
+                    if (!values.isEmpty()) {
+                        sets.computeIfAbsent(key, k -> new HashSet<>()).addAll(Arrays.asList(values.split(",")));
+                    }
+                    ss.remove(key);
+                    migrated = true;
+                }
+            }
+            if (migrated) {
+                save();
+            }
+        });
+    }
+
+    private static void save() {
+        if (savePending) {
+            return;
+        }
+        savePending = true;
+        executor.execute(LocalSettingsStore::write);
+    }
+
+    private static void write() {
+        File file = getFile();
+        JsonObject object;
+        synchronized (LocalSettingsStore.class) {
+            savePending = false;
+            if (file == null) {
+                return;
+            }
+            JsonObjectBuilder setsBuilder = Json.createObjectBuilder();
+            for (Map.Entry<String, Set<String>> entry : sets.entrySet()) {
+                JsonArrayBuilder builder = Json.createArrayBuilder();
+                entry.getValue().forEach(builder::add);
+                setsBuilder.add(entry.getKey(), builder);
+            }
+            JsonObjectBuilder mapsBuilder = Json.createObjectBuilder();
+            for (Map.Entry<String, Map<String, String>> entry : maps.entrySet()) {
+                JsonObjectBuilder builder = Json.createObjectBuilder();
+                entry.getValue().forEach(builder::add);
+                mapsBuilder.add(entry.getKey(), builder);
+            }
+            object = Json.createObjectBuilder()
+                    .add("sets", setsBuilder)
+                    .add("maps", mapsBuilder)
+                    .build();
+        }
+        File temp = new File(file.getParentFile(), file.getName() + ".tmp");
+        try (JsonWriter writer = Json.createWriter(new FileOutputStream(temp))) {
+            writer.writeObject(object);
+        } catch (IOException | JsonException e) {
+            LOG.log(Level.WARNING, "Error writing local settings file " + file, e);
+            return;
+        }
+        if (!temp.renameTo(file)) {
+            file.delete();
+            temp.renameTo(file);
+        }
+    }
+
+    private static File getFile() {
+        return Services.get(StorageService.class)
+                .flatMap(StorageService::getPrivateStorage)
+                .map(root -> new File(root, FILE_NAME))
+                .orElse(null);
+    }
+}
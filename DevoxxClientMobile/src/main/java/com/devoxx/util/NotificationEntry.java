@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2018, Gluon Software
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the
+ * following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation and/or other materials provided
+ *    with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse
+ *    or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES,
+ * INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.devoxx.util;
+
+import com.gluonhq.charm.down.plugins.Notification;
+
+import java.time.ZonedDateTime;
+import java.util.Objects;
+
+/**
+ * Describes a local notification that should exist, independently of
+ * whether it is currently scheduled on the device or not
+ */
+class NotificationEntry {
+
+    private final String id;
+    private final String title;
+    private final String text;
+    private final ZonedDateTime dateTime;
+    private final Runnable runnable;
+    private final int contentHash;
+
+    NotificationEntry(String id, String title, String text, ZonedDateTime dateTime, Runnable runnable) {
+        this.id = id;
+        this.title = title;
+        this.text = text;
+        this.dateTime = dateTime;
+        this.runnable = runnable;
+        this.contentHash = Objects.hash(id, title, text, dateTime == null ? null : dateTime.toInstant());
+    }
+
+    String getId() {
+        return id;
+    }
+
+    String getTitle() {
+        return title;
+    }
+
+    String getText() {
+        return text;
+    }
+
+    ZonedDateTime getDateTime() {
+        return dateTime;
+    }
+
+    /**
+     * Hash of the content shown by the device and of the trigger time. It is stable
+     * across application runs, so it can be persisted.
+     */
+    int getContentHash() {
+        return contentHash;
+    }
+
+    /**
+     * Two entries with the same content produce the same notification on the device
+     */
+    boolean hasSameContent(NotificationEntry other) {
+        return other != null && id.equals(other.id) && contentHash == other.contentHash;
+    }
+
+    /**
+     * Creates the local notification for this entry
+     * @param schedule if false, the notification is not scheduled on the device, and
+     * is only registered so its runnable is available once a delivered notification is opened
+     * @return a local notification
+     */
+    Notification createNotification(boolean schedule) {
+        return new Notification(id, title, text,
+                NotificationEntry.class.getResourceAsStream("/icon.png"),
+                schedule ? dateTime : null,
+                runnable);
+    }
+}
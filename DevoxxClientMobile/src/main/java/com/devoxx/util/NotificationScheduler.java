@@ -0,0 +1,272 @@
+/*
+ * Copyright (c) 2018, Gluon Software
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the
+ * following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation and/or other materials provided
+ *    with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse
+ *    or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES,
+ * INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.devoxx.util;
+
+import com.gluonhq.charm.down.plugins.LocalNotificationsService;
+import com.gluonhq.charm.down.plugins.Notification;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static com.devoxx.util.DevoxxLogging.LOGGING_ENABLED;
+
+/**
+ * Keeps the notifications registered with the {@link LocalNotificationsService} in sync with
+ * the full set of desired notification entries.
+ *
+ * Each pass diffs the desired entries against what was registered in previous passes, and
+ * applies only the differences, in one batch. Only the future entries within a time horizon,
+ * up to a maximum, are scheduled on the device: the rest are registered without a date (so their
+ * runnable is available) and wait in a queue ordered by trigger time, from which they are
+ * scheduled by {@link #refill(ZonedDateTime)} as time advances.
+ */
+class NotificationScheduler {
+
+    private static final Logger LOG = Logger.getLogger(NotificationScheduler.class.getName());
+
+    private final Optional<LocalNotificationsService> notificationsService;
+    private final int maxScheduled;
+    private final Duration horizon;
+
+    private final Map<String, Registration> registrations = new HashMap<>();
+    private final PriorityQueue<NotificationEntry> pending = new PriorityQueue<>(Comparator.comparing(NotificationEntry::getDateTime));
+
+    NotificationScheduler(Optional<LocalNotificationsService> notificationsService, int maxScheduled, Duration horizon) {
+        this.notificationsService = notificationsService;
+        this.maxScheduled = maxScheduled;
+        this.horizon = horizon;
+    }
+
+    /**
+     * Reconciles the registered notifications with the given entries
+     * @param entries all the notification entries that should exist
+     * @param now the reference time for the whole pass
+     */
+    void apply(Collection<NotificationEntry> entries, ZonedDateTime now) {
+        pending.clear();
+        for (NotificationEntry entry : entries) {
+            if (isFuture(entry, now)) {
+                pending.add(entry);
+            }
+        }
+        Set<String> toSchedule = pollPending(now, 0);
+
+        List<Notification> toRemove = new ArrayList<>();
+        List<Notification> toAdd = new ArrayList<>();
+        Map<String, Registration> updated = new HashMap<>();
+        for (NotificationEntry entry : entries) {
+            boolean schedule = toSchedule.contains(entry.getId());
+            Registration registration = registrations.remove(entry.getId());
+            if (registration != null && registration.entry.hasSameContent(entry) &&
+                    (registration.scheduled == schedule || (registration.scheduled && !isFuture(entry, now)))) {
+                // unchanged, or already delivered by the device
+                updated.put(entry.getId(), registration);
+                continue;
+            }
+            if (registration != null) {
+                // removing the notification cancels it on the device, if it was scheduled
+                toRemove.add(registration.notification);
+            }
+            Registration newRegistration = new Registration(entry, entry.createNotification(schedule), schedule);
+            toAdd.add(newRegistration.notification);
+            updated.put(entry.getId(), newRegistration);
+        }
+        // the remaining registrations are no longer desired
+        for (Registration registration : registrations.values()) {
+            toRemove.add(registration.notification);
+        }
+        registrations.clear();
+        registrations.putAll(updated);
+
+        if (toRemove.isEmpty() && toAdd.isEmpty()) {
+            return;
+        }
+        if (LOGGING_ENABLED) {
+            LOG.log(Level.INFO, String.format("Notifications pass: %d removed, %d added, %d scheduled on the device",
+                    toRemove.size(), toAdd.size(), toSchedule.size()));
+        }
+        update(toRemove, toAdd);
+    }
+
+    /**
+     * Registers the entries persisted in a previous run, without scheduling them again
+     * on the device: the ones that were scheduled are still pending there. This makes their
+     * runnables available, and lets later passes reschedule only the entries that changed.
+     * @param entries the persisted entries
+     * @param scheduledIds the ids of the entries that were scheduled on the device
+     * @param now the reference time for the whole pass
+     */
+    void restore(Collection<NotificationEntry> entries, Set<String> scheduledIds, ZonedDateTime now) {
+        List<Notification> toAdd = new ArrayList<>();
+        for (NotificationEntry entry : entries) {
+            boolean scheduled = scheduledIds.contains(entry.getId());
+            Registration registration = new Registration(entry, entry.createNotification(false), scheduled);
+            registrations.put(entry.getId(), registration);
+            toAdd.add(registration.notification);
+            if (!scheduled && isFuture(entry, now)) {
+                pending.add(entry);
+            }
+        }
+        if (LOGGING_ENABLED) {
+            LOG.log(Level.INFO, String.format("Notifications restored: %d, %d scheduled on the device",
+                    toAdd.size(), scheduledIds.size()));
+        }
+        update(Collections.emptyList(), toAdd);
+    }
+
+    /**
+     * Returns the ids of the entries currently scheduled on the device
+     * @return a set of notification ids
+     */
+    Set<String> getScheduledIds() {
+        Set<String> ids = new HashSet<>();
+        for (Registration registration : registrations.values()) {
+            if (registration.scheduled) {
+                ids.add(registration.entry.getId());
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * Schedules on the device the pending entries that entered the horizon, or
+     * that fit after already scheduled notifications have been delivered
+     * @param now the reference time for the whole pass
+     */
+    void refill(ZonedDateTime now) {
+        int scheduledCount = 0;
+        for (Registration registration : registrations.values()) {
+            if (registration.scheduled && isFuture(registration.entry, now)) {
+                scheduledCount++;
+            }
+        }
+
+        List<Notification> toRemove = new ArrayList<>();
+        List<Notification> toAdd = new ArrayList<>();
+        for (String id : pollPending(now, scheduledCount)) {
+            Registration registration = registrations.get(id);
+            if (registration == null || registration.scheduled) {
+                continue;
+            }
+            Registration newRegistration = new Registration(registration.entry, registration.entry.createNotification(true), true);
+            toRemove.add(registration.notification);
+            toAdd.add(newRegistration.notification);
+            registrations.put(id, newRegistration);
+        }
+
+        if (toAdd.isEmpty()) {
+            return;
+        }
+        if (LOGGING_ENABLED) {
+            LOG.log(Level.INFO, String.format("Notifications refill: %d scheduled on the device", toAdd.size()));
+        }
+        update(toRemove, toAdd);
+    }
+
+    /**
+     * Returns the next time at which {@link #refill(ZonedDateTime)} can schedule more notifications:
+     * when the earliest pending entry enters the horizon, or when the earliest scheduled notification
+     * is delivered, freeing a slot
+     * @param now the reference time
+     * @return the time of the next refill, or empty if there are no pending entries
+     */
+    Optional<ZonedDateTime> getNextRefill(ZonedDateTime now) {
+        NotificationEntry next = pending.peek();
+        if (next == null) {
+            return Optional.empty();
+        }
+        // with the maximum reached, only a delivered notification frees a slot
+        ZonedDateTime nextRefill = next.getDateTime().minus(horizon);
+        if (!nextRefill.isAfter(now)) {
+            nextRefill = null;
+        }
+        for (Registration registration : registrations.values()) {
+            if (registration.scheduled && isFuture(registration.entry, now) &&
+                    (nextRefill == null || registration.entry.getDateTime().isBefore(nextRefill))) {
+                nextRefill = registration.entry.getDateTime();
+            }
+        }
+        return Optional.ofNullable(nextRefill);
+    }
+
+    private Set<String> pollPending(ZonedDateTime now, int scheduledCount) {
+        final ZonedDateTime limit = now.plus(horizon);
+        Set<String> ids = new HashSet<>();
+        while (!pending.isEmpty() && scheduledCount + ids.size() < maxScheduled) {
+            NotificationEntry next = pending.peek();
+            if (!isFuture(next, now)) {
+                // its time passed while pending, it won't be scheduled anymore
+                pending.poll();
+                continue;
+            }
+            if (next.getDateTime().isAfter(limit)) {
+                break;
+            }
+            ids.add(pending.poll().getId());
+        }
+        return ids;
+    }
+
+    private void update(List<Notification> toRemove, List<Notification> toAdd) {
+        notificationsService.ifPresent(ns -> {
+            if (!toRemove.isEmpty()) {
+                ns.getNotifications().removeAll(toRemove);
+            }
+            if (!toAdd.isEmpty()) {
+                ns.getNotifications().addAll(toAdd);
+            }
+        });
+    }
+
+    private static boolean isFuture(NotificationEntry entry, ZonedDateTime now) {
+        return entry.getDateTime() != null && entry.getDateTime().isAfter(now);
+    }
+
+    private static class Registration {
+        private final NotificationEntry entry;
+        private final Notification notification;
+        private final boolean scheduled;
+
+        Registration(NotificationEntry entry, Notification notification, boolean scheduled) {
+            this.entry = entry;
+            this.notification = notification;
+            this.scheduled = scheduled;
+        }
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2018, Gluon Software
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the
+ * following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation and/or other materials provided
+ *    with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse
+ *    or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES,
+ * INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.devoxx.util;
+
+import com.gluonhq.charm.down.Services;
+import com.gluonhq.charm.down.plugins.StorageService;
+
+import javax.json.Json;
+import javax.json.JsonArray;
+import javax.json.JsonArrayBuilder;
+import javax.json.JsonException;
+import javax.json.JsonObject;
+import javax.json.JsonReader;
+import javax.json.JsonWriter;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Persists, per conference, the local notifications that were registered in the
+ * last pass: their ids, trigger times, content and content hash, and whether they
+ * were scheduled on the device.
+ */
+class NotificationStore {
+
+    private static final Logger LOG = Logger.getLogger(NotificationStore.class.getName());
+
+    private static final String FILE_PREFIX = "notifications_";
+    private static final String FILE_SUFFIX = ".json";
+
+    private static final ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = Executors.defaultThreadFactory().newThread(r);
+        thread.setName("NotificationStoreThread");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Optional<File> root = Services.get(StorageService.class)
+            .flatMap(StorageService::getPrivateStorage);
+
+    /**
+     * Reads the notifications persisted for a conference
+     * @param conferenceId the id of the conference
+     * @return the persisted notifications, or an empty list if none could be read
+     */
+    List<StoredNotification> load(String conferenceId) {
+        File file = getFile(conferenceId);
+        if (file == null || !file.exists()) {
+            return Collections.emptyList();
+        }
+        List<StoredNotification> notifications = new ArrayList<>();
+        try (JsonReader reader = Json.createReader(new FileInputStream(file))) {
+            for (JsonObject object : reader.readArray().getValuesAs(JsonObject.class)) {
+                StoredNotification notification = new StoredNotification(
+                        object.getString("id"),
+                        object.getString("title", null),
+                        object.getString("text", null),
+                        ZonedDateTime.parse(object.getString("dateTime"), DateTimeFormatter.ISO_ZONED_DATE_TIME),
+                        object.getBoolean("scheduled", false));
+                // discard entries that don't match their hash
+                if (notification.entryHash() == object.getInt("hash", 0)) {
+                    notifications.add(notification);
+                }
+            }
+        } catch (IOException | JsonException | ClassCastException | DateTimeParseException e) {
+            LOG.log(Level.WARNING, "Error reading notifications file " + file, e);
+            return Collections.emptyList();
+        }
+        return notifications;
+    }
+
+    /**
+     * Persists asynchronously the registered notifications of a conference
+     * @param conferenceId the id of the conference
+     * @param entries the registered notification entries
+     * @param scheduledIds the ids of the entries scheduled on the device
+     */
+    void save(String conferenceId, Collection<NotificationEntry> entries, Set<String> scheduledIds) {
+        File file = getFile(conferenceId);
+        if (file == null) {
+            return;
+        }
+        JsonArrayBuilder builder = Json.createArrayBuilder();
+        for (NotificationEntry entry : entries) {
+            if (entry.getDateTime() == null) {
+                continue;
+            }
+            builder.add(Json.createObjectBuilder()
+                    .add("id", entry.getId())
+                    .add("title", entry.getTitle() == null ? "" : entry.getTitle())
+                    .add("text", entry.getText() == null ? "" : entry.getText())
+                    .add("dateTime", entry.getDateTime().format(DateTimeFormatter.ISO_ZONED_DATE_TIME))
+                    .add("hash", entry.getContentHash())
+                    .add("scheduled", scheduledIds.contains(entry.getId())));
+        }
+        final JsonArray array = builder.build();
+        executor.execute(() -> {
+            File temp = new File(file.getParentFile(), file.getName() + ".tmp");
+            try (JsonWriter writer = Json.createWriter(new FileOutputStream(temp))) {
+                writer.writeArray(array);
+            } catch (IOException | JsonException e) {
+                LOG.log(Level.WARNING, "Error writing notifications file " + file, e);
+                return;
+            }
+            if (!temp.renameTo(file)) {
+                file.delete();
+                temp.renameTo(file);
+            }
+        });
+    }
+
+    private File getFile(String conferenceId) {
+        return root.map(r -> new File(r, FILE_PREFIX + conferenceId + FILE_SUFFIX)).orElse(null);
+    }
+
+    static class StoredNotification {
+        final String id;
+        final String title;
+        final String text;
+        final ZonedDateTime dateTime;
+        final boolean scheduled;
+
+        StoredNotification(String id, String title, String text, ZonedDateTime dateTime, boolean scheduled) {
+            this.id = id;
+            this.title = title;
+            this.text = text;
+            this.dateTime = dateTime;
+            this.scheduled = scheduled;
+        }
+
+        private int entryHash() {
+            return new NotificationEntry(id, title, text, dateTime, null).getContentHash();
+        }
+    }
+}
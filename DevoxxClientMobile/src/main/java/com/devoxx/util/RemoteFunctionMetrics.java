@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2018, Gluon Software
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the
+ * following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation and/or other materials provided
+ *    with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse
+ *    or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES,
+ * INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.devoxx.util;
+
+import com.gluonhq.connect.ConnectState;
+import com.gluonhq.connect.GluonObservable;
+import com.gluonhq.connect.GluonObservableList;
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableValue;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Collects, per remote function name, the number of calls, failures and
+ * retries, the latency distribution and the number of items received.
+ *
+ * Calls are tracked by wrapping the observable returned by the remote function:
+ * <pre>
+ * GluonObservableList&lt;Speaker&gt; speakers = RemoteFunctionMetrics.track("speakers", fnSpeakers.call(Speaker.class));
+ * </pre>
+ * A call made after a failed call of the same function, with no successful call
+ * in between, is counted as a retry.
+ */
+public class RemoteFunctionMetrics {
+
+    private static final Logger LOG = Logger.getLogger(RemoteFunctionMetrics.class.getName());
+
+    // upper bounds, in milliseconds, of the latency histogram buckets
+    private static final long[] BUCKETS = {100, 250, 500, 1_000, 2_000, 5_000, 10_000};
+
+    private static final Map<String, Metrics> metrics = new TreeMap<>();
+
+    private RemoteFunctionMetrics() {
+    }
+
+    /**
+     * Tracks a call to a remote function, until it succeeds or fails
+     * @param name the name of the remote function
+     * @param observable the observable returned by the call
+     * @param <T> the type of the observable
+     * @return the same observable
+     */
+    public static <T extends GluonObservable> T track(String name, T observable) {
+        final long start = System.currentTimeMillis();
+        synchronized (RemoteFunctionMetrics.class) {
+            metrics.computeIfAbsent(name, Metrics::new).started();
+        }
+        ChangeListener<ConnectState> listener = new ChangeListener<ConnectState>() {
+            @Override
+            public void changed(ObservableValue<? extends ConnectState> o, ConnectState ov, ConnectState state) {
+                if (state == ConnectState.SUCCEEDED || state == ConnectState.FAILED) {
+                    observable.stateProperty().removeListener(this);
+                    finished(name, observable, state, System.currentTimeMillis() - start);
+                }
+            }
+        };
+        observable.stateProperty().addListener(listener);
+        // cached results may be available already
+        listener.changed(observable.stateProperty(), null, observable.getState());
+        return observable;
+    }
+
+    private static void finished(String name, GluonObservable observable, ConnectState state, long latency) {
+        int items = observable instanceof GluonObservableList ? ((GluonObservableList<?>) observable).size() : 1;
+        synchronized (RemoteFunctionMetrics.class) {
+            metrics.get(name).finished(state == ConnectState.SUCCEEDED, latency, items);
+        }
+    }
+
+    /**
+     * @return a plain text report of the metrics of all the remote functions called so far
+     */
+    public static synchronized String getReport() {
+        StringBuilder report = new StringBuilder();
+        report.append("Remote functions - ")
+                .append(DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(ZonedDateTime.now())).append("\n");
+        if (metrics.isEmpty()) {
+            report.append("No calls\n");
+        }
+        for (Metrics m : metrics.values()) {
+            m.appendTo(report);
+        }
+        return report.toString();
+    }
+
+    /**
+     * Writes the report to a file
+     * @param file the file
+     * @return true if the file was written
+     */
+    public static boolean export(File file) {
+        final String report = getReport();
+        try (BufferedWriter writer = new BufferedWriter(new FileWriter(file))) {
+            writer.write(report);
+            return true;
+        } catch (IOException e) {
+            LOG.log(Level.WARNING, "Error writing remote function metrics to " + file, e);
+            return false;
+        }
+    }
+
+    private static class Metrics {
+        private final String name;
+        private final long[] histogram = new long[BUCKETS.length + 1];
+        private int calls;
+        private int pending;
+        private int successes;
+        private int failures;
+        private int retries;
+        private boolean lastFailed;
+        private long totalLatency;
+        private long maxLatency;
+        private long totalItems;
+
+        Metrics(String name) {
+            this.name = name;
+        }
+
+        void started() {
+            calls++;
+            pending++;
+            if (lastFailed) {
+                retries++;
+            }
+        }
+
+        void finished(boolean succeeded, long latency, int items) {
+            pending--;
+            lastFailed = !succeeded;
+            if (succeeded) {
+                successes++;
+                totalItems += items;
+            } else {
+                failures++;
+            }
+            totalLatency += latency;
+            maxLatency = Math.max(maxLatency, latency);
+            int bucket = 0;
+            while (bucket < BUCKETS.length && latency > BUCKETS[bucket]) {
+                bucket++;
+            }
+            histogram[bucket]++;
+        }
+
+        void appendTo(StringBuilder report) {
+            int finished = successes + failures;
+            report.append("\n").append(name).append("\n");
+            report.append("  calls: ").append(calls)
+                    .append(", pending: ").append(pending)
+                    .append(", retries: ").append(retries).append("\n");
+            report.append("  failures: ").append(failures);
+            if (finished > 0) {
+                report.append(" (").append(100 * failures / finished).append("%)");
+            }
+            report.append("\n");
+            if (finished > 0) {
+                report.append("  latency: avg ").append(totalLatency / finished)
+                        .append(" ms, max ").append(maxLatency).append(" ms\n");
+                report.append("  histogram:");
+                for (int i = 0; i < histogram.length; i++) {
+                    report.append(i < BUCKETS.length ? " <=" + BUCKETS[i] : " >" + BUCKETS[BUCKETS.length - 1])
+                            .append(": ").append(histogram[i]);
+                }
+                report.append("\n");
+            }
+            if (successes > 0) {
+                report.append("  items: avg ").append(totalItems / successes).append("\n");
+            }
+        }
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2018, Gluon Software
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the
+ * following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation and/or other materials provided
+ *    with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse
+ *    or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES,
+ * INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.devoxx.util;
+
+import com.gluonhq.charm.down.Services;
+import com.gluonhq.charm.down.plugins.StorageService;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Records the duration of the phases of the application startup, from the
+ * call to {@link #start()} until the application is interactive.
+ *
+ * Each launch appends a line with the phase timings, in milliseconds, to a
+ * log file in the private storage.
+ */
+public class StartupProfiler {
+
+    private static final Logger LOG = Logger.getLogger(StartupProfiler.class.getName());
+
+    private static final String FILE_NAME = "startup.log";
+    private static final long MAX_FILE_SIZE = 64 * 1024;
+
+    private static final ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = Executors.defaultThreadFactory().newThread(r);
+        thread.setName("StartupProfilerThread");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private static final StringBuilder phases = new StringBuilder();
+    private static long start = System.nanoTime();
+    private static long last = start;
+    private static boolean finished;
+
+    private StartupProfiler() {
+    }
+
+    /**
+     * Sets the beginning of the startup
+     */
+    public static synchronized void start() {
+        start = System.nanoTime();
+        last = start;
+    }
+
+    /**
+     * Records the end of a startup phase
+     * @param phase the name of the phase
+     */
+    public static synchronized void mark(String phase) {
+        if (finished) {
+            return;
+        }
+        long now = System.nanoTime();
+        phases.append(' ').append(phase).append('=').append(TimeUnit.NANOSECONDS.toMillis(now - last));
+        last = now;
+    }
+
+    /**
+     * Records the last startup phase and the total time, and writes them to the log file.
+     * Further calls to {@link #mark(String)} are ignored.
+     * @param phase the name of the last phase
+     */
+    public static synchronized void finish(String phase) {
+        if (finished) {
+            return;
+        }
+        mark(phase);
+        finished = true;
+        final String line = ZonedDateTime.now().format(DateTimeFormatter.ISO_OFFSET_DATE_TIME) +
+                " build=" + DevoxxSettings.BUILD_NUMBER +
+                " total=" + TimeUnit.NANOSECONDS.toMillis(last - start) + phases;
+        if (DevoxxLogging.LOGGING_ENABLED) {
+            LOG.log(Level.INFO, "Startup: " + line);
+        }
+        executor.execute(() -> write(line));
+    }
+
+    private static void write(String line) {
+        File file = Services.get(StorageService.class)
+                .flatMap(StorageService::getPrivateStorage)
+                .map(root -> new File(root, FILE_NAME))
+                .orElse(null);
+        if (file == null) {
+            return;
+        }
+        // start over once the log is big enough
+        boolean append = file.length() < MAX_FILE_SIZE;
+        try (BufferedWriter writer = new BufferedWriter(new FileWriter(file, append))) {
+            writer.write(line);
+            writer.newLine();
+        } catch (IOException e) {
+            LOG.log(Level.WARNING, "Error writing startup log " + file, e);
+        }
+    }
+}
@@ -29,8 +29,11 @@ import com.devoxx.DevoxxApplication;
 import com.devoxx.service.Service;
 import com.devoxx.util.DevoxxBundle;
 import com.devoxx.util.DevoxxSettings;
+import com.devoxx.util.RemoteFunctionMetrics;
 import com.gluonhq.charm.down.Services;
 import com.gluonhq.charm.down.plugins.SettingsService;
+import com.gluonhq.charm.down.plugins.ShareService;
+import com.gluonhq.charm.down.plugins.StorageService;
 import com.gluonhq.charm.glisten.afterburner.GluonPresenter;
 import com.gluonhq.charm.glisten.control.AppBar;
 import com.gluonhq.charm.glisten.control.Dialog;
@@ -41,6 +44,7 @@ import com.gluonhq.cloudlink.client.user.User;
 import javafx.fxml.FXML;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
+import javafx.scene.control.ScrollPane;
 import javafx.scene.control.Separator;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
@@ -48,6 +52,7 @@ import javafx.scene.layout.VBox;
 import javafx.scene.text.TextFlow;
 
 import javax.inject.Inject;
+import java.io.File;
 import java.io.IOException;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -143,9 +148,14 @@ public class AboutPresenter extends GluonPresenter<DevoxxApplication> {
         final Label text = new Label(debug.toString());
         text.setWrapText(true);
 
+        Button metricsButton = new Button("Metrics");
+        metricsButton.setOnAction(e -> {
+            information.hide();
+            createMetricsDialog().showAndWait();
+        });
         Button okButton = new Button("OK");
         okButton.setOnAction(e -> information.hide());
-        information.getButtons().add(okButton);
+        information.getButtons().addAll(metricsButton, okButton);
 
         final VBox content = new VBox(10, text);
         content.getStyleClass().add("sch-fav-dialog");
@@ -153,4 +163,44 @@ public class AboutPresenter extends GluonPresenter<DevoxxApplication> {
         information.setTitleText("Debug Info");
         return information;
     }
+
+    private Dialog<TextFlow> createMetricsDialog() {
+        final Dialog<TextFlow> metrics = new Dialog<>();
+
+        final Label text = new Label(RemoteFunctionMetrics.getReport());
+        text.setWrapText(true);
+        final ScrollPane scrollPane = new ScrollPane(text);
+        scrollPane.setFitToWidth(true);
+        scrollPane.setPrefHeight(getApp().getView().getScene().getHeight() / 2);
+
+        Button exportButton = new Button("Export");
+        exportButton.setOnAction(e -> exportMetrics());
+        Button okButton = new Button("OK");
+        okButton.setOnAction(e -> metrics.hide());
+        metrics.getButtons().addAll(exportButton, okButton);
+
+        final VBox content = new VBox(10, scrollPane);
+        content.getStyleClass().add("sch-fav-dialog");
+        metrics.setContent(content);
+        metrics.setTitleText("Remote Functions");
+        return metrics;
+    }
+
+    private void exportMetrics() {
+        Services.get(ShareService.class).ifPresent(shareService -> {
+            File root = Services.get(StorageService.class).flatMap(storage -> storage.getPublicStorage("Documents")).orElse(null);
+            if (root == null) {
+                LOG.log(Level.WARNING, "Error accessing local storage");
+                return;
+            }
+            if (!root.exists()) {
+                root.mkdirs();
+            }
+            File file = new File(root, "Devoxx-remote-functions.txt");
+            if (RemoteFunctionMetrics.export(file)) {
+                shareService.share("Devoxx remote functions", "Remote function metrics, build " + DevoxxSettings.BUILD_NUMBER,
+                        "text/plain", file);
+            }
+        });
+    }
 }
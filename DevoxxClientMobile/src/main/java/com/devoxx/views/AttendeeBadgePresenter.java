@@ -149,12 +149,12 @@ public class AttendeeBadgePresenter extends GluonPresenter<DevoxxApplication> {
         if (scan == null) {
             scan = new FloatingActionButton("", e -> {
                 if (DevoxxSettings.BADGE_TESTS) {
-                    addBadge(badges, Util.getDummyQR());
+                    addBadge(Util.getDummyQR());
                     return;
                 }
                 Services.get(BarcodeScanService.class).ifPresent(s -> {
                     final Optional<String> scanQr = s.scan(DevoxxBundle.getString("OTN.BADGES.ATTENDEE.QR.TITLE"), null, null);
-                    scanQr.ifPresent(qr -> addBadge(badges, qr));
+                    scanQr.ifPresent(qr -> addBadge(qr));
                 });
             });
             scan.getStyleClass().add("badge-scanner");
@@ -162,22 +162,15 @@ public class AttendeeBadgePresenter extends GluonPresenter<DevoxxApplication> {
         scan.show();
     }
 
-    private void addBadge(ObservableList<Badge> badges, String qr) {
+    private void addBadge(String qr) {
         Badge badge = new Badge(qr);
         if (badge.getBadgeId() != null) {
-            boolean exists = false;
-            for (Badge b : badges) {
-                if (b.getBadgeId().equals(badge.getBadgeId())) {
-                    Toast toast = new Toast(DevoxxBundle.getString("OTN.BADGES.QR.EXISTS"));
-                    toast.show();
-                    exists = true;
-                    break;
-                }
-            }
-            if (!exists) {
-                attendeeBadges.itemsProperty().add(badge);
+            if (service.addBadgeIfAbsent(badge)) {
                 // Keep AttendeeBadgeView on stack 
                 DevoxxView.BADGE.switchView(ViewStackPolicy.USE).ifPresent(presenter -> ((BadgePresenter) presenter).setBadge(badge, ATTENDEE));
+            } else {
+                Toast toast = new Toast(DevoxxBundle.getString("OTN.BADGES.QR.EXISTS"));
+                toast.show();
             }
         } else {
             Toast toast = new Toast(DevoxxBundle.getString("OTN.BADGES.BAD.QR"));
@@ -42,7 +42,6 @@ import com.gluonhq.charm.glisten.mvc.View;
 import com.gluonhq.charm.glisten.visual.MaterialDesignIcon;
 import javafx.animation.KeyFrame;
 import javafx.animation.Timeline;
-import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.Button;
 import javafx.scene.control.TextArea;
@@ -152,19 +151,14 @@ public class BadgePresenter extends GluonPresenter<DevoxxApplication> {
         this.badge = badge;
         this.badgeType = badgeType;
         
+        // edit the stored instance of the badge
         if (badgeType == BadgeType.ATTENDEE) {
             if (service.isAuthenticated() || !DevoxxSettings.USE_REMOTE_NOTES) {
-                final ObservableList<Badge> badges = service.retrieveBadges();
-                if (badges.contains(badge)) {
-                    this.badge = badge;
-                }
+                service.findBadge(badge.getBadgeId()).ifPresent(b -> this.badge = b);
             }
         } else {
             final SponsorBadge sponsorBadge = (SponsorBadge) badge;
-            final ObservableList<SponsorBadge> badges = service.retrieveSponsorBadges(sponsorBadge.getSponsor());
-            if (badges.contains(badge)) {
-                this.badge = badge;
-            }
+            service.findSponsorBadge(sponsorBadge.getSponsor(), badge.getBadgeId()).ifPresent(b -> this.badge = b);
         }
         if (this.badge != null) {
             firstName.setText(badge.getFirstName());
@@ -99,6 +99,8 @@ public class NotesPresenter extends GluonPresenter<DevoxxApplication> {
     private void loadAuthenticatedView() {
         ObservableList<Note> finalNotes = FXCollections.observableArrayList();
         ObservableList<Note> notes = service.retrieveNotes();
+        // notes edited in the last seconds are listed with their last content
+        service.flushNotes();
         for (Note note : notes) {
             service.findSession(note.getSessionUuid()).ifPresent(session -> finalNotes.add(note));
         }
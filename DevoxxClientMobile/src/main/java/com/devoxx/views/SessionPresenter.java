@@ -28,11 +28,9 @@ package com.devoxx.views;
 import com.devoxx.DevoxxApplication;
 import com.devoxx.DevoxxView;
 import com.devoxx.control.DataLabel;
-import com.devoxx.model.Link;
 import com.devoxx.model.Session;
 import com.devoxx.model.Speaker;
 import com.devoxx.model.Tag;
-import com.devoxx.model.TalkSpeaker;
 import com.devoxx.service.Service;
 import com.devoxx.util.DevoxxBundle;
 import com.devoxx.util.DevoxxSettings;
@@ -49,7 +47,6 @@ import com.gluonhq.charm.glisten.control.BottomNavigation;
 import com.gluonhq.charm.glisten.control.BottomNavigationButton;
 import com.gluonhq.charm.glisten.mvc.View;
 import com.gluonhq.charm.glisten.visual.MaterialDesignIcon;
-import javafx.beans.property.ReadOnlyListProperty;
 import javafx.beans.property.ReadOnlyObjectProperty;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -233,22 +230,7 @@ public class SessionPresenter extends GluonPresenter<DevoxxApplication> {
     }
     
     private ObservableList<Speaker> fetchSpeakers(Session activeSession) {
-        ObservableList<Speaker> speakers = FXCollections.observableArrayList();
-        final ReadOnlyListProperty<Speaker> speakersList = service.retrieveSpeakers();
-        if (activeSession.getTalk().getSpeakers() != null) {
-            for (TalkSpeaker talkSpeaker : activeSession.getTalk().getSpeakers()) {
-                Link link = talkSpeaker.getLink();
-                if (link != null && link.getHref() != null && !link.getHref().isEmpty()) {
-                    String speakerUUID = link.getHref().substring(link.getHref().lastIndexOf('/') + 1);
-                    for (Speaker speaker : speakersList) {
-                        if (speaker.getUuid().equals(speakerUUID)) {
-                            speakers.add(speaker);
-                        }
-                    }
-                }
-            }
-        }
-        return speakers;
+        return FXCollections.observableArrayList(service.findSpeakers(activeSession));
     }
     
     private ReadOnlyObjectProperty<Speaker> fetchSpeakerDetail(String speakerUUID) {
@@ -32,6 +32,7 @@ import com.devoxx.model.Session;
 import com.devoxx.service.Service;
 import com.devoxx.util.DevoxxBundle;
 import com.devoxx.util.DevoxxSettings;
+import com.devoxx.util.LocalSettingsStore;
 import com.devoxx.views.cell.ScheduleCell;
 import com.devoxx.views.cell.ScheduleHeaderCell;
 import com.devoxx.views.helper.FilterSessionsPresenter;
@@ -82,8 +83,6 @@ import java.util.List;
 import java.util.function.Predicate;
 
 import static com.devoxx.util.DevoxxSettings.SESSION_FILTER;
-import static com.devoxx.views.helper.Util.addCSVToLocalStorage;
-import static com.devoxx.views.helper.Util.fetchCSVFromLocalStorage;
 import static com.devoxx.views.helper.Util.isOnGoing;
 
 public class SessionsPresenter  extends GluonPresenter<DevoxxApplication> {
@@ -163,7 +162,6 @@ public class SessionsPresenter  extends GluonPresenter<DevoxxApplication> {
 
             // check if a reload was requested, each time the sessions view is opened
             service.checkIfReloadRequested();
-            service.refreshFavorites();
             showRatingDialog();
 
             // Only do this when no rating panel is currently showing
@@ -367,7 +365,7 @@ public class SessionsPresenter  extends GluonPresenter<DevoxxApplication> {
         yes.getStyleClass().add("yes");
         later.setOnAction(e -> {
             sessions.setTop(null);
-            addCSVToLocalStorage(DevoxxSettings.RATING, service.getConference().getId());
+            LocalSettingsStore.add(DevoxxSettings.RATING, service.getConference().getId());
         });
         no.setOnAction(e -> {
             header.setText(DevoxxBundle.getString("OTN.FEEDBACK.QUESTION.IMPROVE"));
@@ -416,10 +414,10 @@ public class SessionsPresenter  extends GluonPresenter<DevoxxApplication> {
             toast.show();
 
             sessions.setTop(null);
-            addCSVToLocalStorage(SESSION_FILTER, service.getConference().getId());
+            LocalSettingsStore.add(SESSION_FILTER, service.getConference().getId());
         });
         yes.setOnAction(e -> {
-            addCSVToLocalStorage(SESSION_FILTER, service.getConference().getId());
+            LocalSettingsStore.add(SESSION_FILTER, service.getConference().getId());
             filterPresenter.hidePastSession();
             sessions.setTop(null);
             Toast toast = new Toast(DevoxxBundle.getString("OTN.FILTER.FILTER_GRID.TOAST.YES"), Message.LENGTH_LONG);
@@ -450,7 +448,7 @@ public class SessionsPresenter  extends GluonPresenter<DevoxxApplication> {
     private boolean isShowingPastSessions(Conference conference) {
         // Conference is yet to end
         // We haven't shown the filter dialog for this conference in the past
-        if (isOnGoing(conference) && !fetchCSVFromLocalStorage(SESSION_FILTER).contains(conference.getId())) {
+        if (isOnGoing(conference) && !LocalSettingsStore.contains(SESSION_FILTER, conference.getId())) {
             for (Session filteredSession : filteredSessions) {
                 if (filteredSession.getEndDate().plusHours(1).isBefore(ZonedDateTime.now(conference.getConferenceZoneId()))) {
                     return true;
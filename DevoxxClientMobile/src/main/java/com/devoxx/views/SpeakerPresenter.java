@@ -30,7 +30,6 @@ import com.devoxx.DevoxxView;
 import com.devoxx.control.DataLabel;
 import com.devoxx.model.Session;
 import com.devoxx.model.Speaker;
-import com.devoxx.model.Talk;
 import com.devoxx.service.Service;
 import com.devoxx.util.DevoxxBundle;
 import com.devoxx.views.cell.ScheduleCell;
@@ -54,7 +53,6 @@ import javafx.scene.control.ScrollPane;
 
 import javax.inject.Inject;
 import java.time.LocalDate;
-import java.util.List;
 
 public class SpeakerPresenter extends GluonPresenter<DevoxxApplication> {
 
@@ -144,20 +142,7 @@ public class SpeakerPresenter extends GluonPresenter<DevoxxApplication> {
     
     
     private ObservableList<Session> fetchSessions(Speaker activeSpeaker) {
-        ObservableList<Session> speakerSessions = FXCollections.observableArrayList();
-        if (activeSpeaker.getAcceptedTalks() != null) {
-            List<Session> sessions = service.retrieveSessions();
-            List<Talk> acceptedTalks = activeSpeaker.getAcceptedTalks();
-            for (Talk acceptedTalk : acceptedTalks) {
-                for (Session session : sessions) {
-                    if (session.getTalk() != null && acceptedTalk.getId().equals(session.getTalk().getId())) {
-                        speakerSessions.add(session);
-                        break;
-                    }
-                }
-            }
-        }
-        return speakerSessions;
+        return FXCollections.observableArrayList(service.findSessions(activeSpeaker));
     }
     
     private CharmListView<Session, LocalDate> createSessionsListView(Speaker activeSpeaker) {
@@ -27,7 +27,6 @@ package com.devoxx.views;
 
 import com.devoxx.DevoxxApplication;
 import com.devoxx.DevoxxView;
-import com.devoxx.model.Badge;
 import com.devoxx.model.BadgeType;
 import com.devoxx.model.Sponsor;
 import com.devoxx.model.SponsorBadge;
@@ -47,10 +46,13 @@ import com.gluonhq.charm.glisten.control.CharmListView;
 import com.gluonhq.charm.glisten.control.FloatingActionButton;
 import com.gluonhq.charm.glisten.control.Toast;
 import com.gluonhq.charm.glisten.mvc.View;
+import javafx.beans.binding.Bindings;
+import javafx.beans.property.ReadOnlyIntegerProperty;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import javafx.fxml.FXML;
 import javafx.scene.control.Button;
+import javafx.scene.control.Label;
 import javafx.scene.control.MenuItem;
 
 import javax.inject.Inject;
@@ -68,6 +70,7 @@ public class SponsorBadgePresenter extends GluonPresenter<DevoxxApplication> {
 
     private Sponsor sponsor;
     private FloatingActionButton scan;
+    private Label syncStatus;
 
     public void initialize() {
 
@@ -75,6 +78,11 @@ public class SponsorBadgePresenter extends GluonPresenter<DevoxxApplication> {
         scan.getStyleClass().add("badge-scanner");
         scan.showOn(sponsorView);
 
+        // badges are uploaded in the background, show how many are still pending
+        syncStatus = new Label();
+        syncStatus.getStyleClass().add("sync-status");
+        sponsorView.setBottom(syncStatus);
+
         sponsorView.setOnShowing(event -> {
             AppBar appBar = getApp().getAppBar();
             appBar.setNavIcon(getApp().getNavMenuButton());
@@ -106,6 +114,12 @@ public class SponsorBadgePresenter extends GluonPresenter<DevoxxApplication> {
         sponsorBadges.setCellFactory(param -> new BadgeCell<>());
         sponsorView.setCenter(sponsorBadges);
 
+        final ReadOnlyIntegerProperty pending = service.pendingSponsorBadgesProperty();
+        final ReadOnlyIntegerProperty synced = service.syncedSponsorBadgesProperty(sponsor);
+        syncStatus.textProperty().bind(Bindings.createStringBinding(() ->
+                DevoxxBundle.getString("OTN.SPONSOR.BADGES.SYNC", pending.get(), synced.get()),
+                pending, synced));
+
         final Button shareButton = getApp().getShareButton(BadgeType.SPONSOR, sponsor);
         shareButton.disableProperty().bind(sponsorBadges.itemsProperty().emptyProperty());
         AppBar appBar = getApp().getAppBar();
@@ -114,33 +128,26 @@ public class SponsorBadgePresenter extends GluonPresenter<DevoxxApplication> {
 
         scan.setOnAction(e -> {
             if (DevoxxSettings.BADGE_TESTS) {
-                addBadge(sponsor, badges, Util.getDummyQR());
+                addBadge(sponsor, Util.getDummyQR());
                 return;
             }
             Services.get(BarcodeScanService.class).ifPresent(s -> {
                 final Optional<String> scanQr = s.scan(DevoxxBundle.getString("OTN.BADGES.SPONSOR.QR.TITLE", sponsor.getName()), null, null);
-                scanQr.ifPresent(qr -> addBadge(sponsor, badges, qr));
+                scanQr.ifPresent(qr -> addBadge(sponsor, qr));
             });
         });
     }
 
-    private void addBadge(Sponsor sponsor, ObservableList<SponsorBadge> badges, String qr) {
+    private void addBadge(Sponsor sponsor, String qr) {
         SponsorBadge badge = new SponsorBadge(qr);
         if (badge.getBadgeId() != null) {
-            boolean exists = false;
-            for (Badge b : badges) {
-                if (b != null && b.getBadgeId() != null && b.getBadgeId().equals(badge.getBadgeId())) {
-                    Toast toast = new Toast(DevoxxBundle.getString("OTN.BADGES.QR.EXISTS"));
-                    toast.show();
-                    exists = true;
-                    break;
-                }
-            }
-            if (!exists) {
-                badge.setSponsor(sponsor);
-                badges.add(badge);
+            badge.setSponsor(sponsor);
+            if (service.addSponsorBadgeIfAbsent(badge)) {
                 // Keep SponsorBadgeView on view stack 
                 DevoxxView.BADGE.switchView(ViewStackPolicy.USE).ifPresent(presenter -> ((BadgePresenter) presenter).setBadge(badge, BadgeType.SPONSOR));
+            } else {
+                Toast toast = new Toast(DevoxxBundle.getString("OTN.BADGES.QR.EXISTS"));
+                toast.show();
             }
         } else {
             Toast toast = new Toast(DevoxxBundle.getString("OTN.BADGES.BAD.QR"));
@@ -28,10 +28,8 @@ package com.devoxx.views.cell;
 import com.devoxx.DevoxxView;
 import com.devoxx.model.Favorite;
 import com.devoxx.model.Session;
-import com.devoxx.model.TalkSpeaker;
+import com.devoxx.model.SessionDisplay;
 import com.devoxx.service.Service;
-import com.devoxx.util.DevoxxBundle;
-import com.devoxx.util.DevoxxSettings;
 import com.devoxx.views.SessionPresenter;
 import com.devoxx.views.helper.SessionTrack;
 import com.devoxx.views.helper.SessionVisuals;
@@ -40,6 +38,7 @@ import com.gluonhq.charm.glisten.control.ListTile;
 import com.gluonhq.charm.glisten.visual.MaterialDesignIcon;
 import javafx.beans.InvalidationListener;
 import javafx.beans.Observable;
+import javafx.beans.WeakInvalidationListener;
 import javafx.css.PseudoClass;
 import javafx.geometry.HPos;
 import javafx.geometry.Pos;
@@ -55,8 +54,6 @@ import javafx.scene.layout.Priority;
 import javafx.scene.layout.StackPane;
 import javafx.scene.layout.VBox;
 
-import java.util.List;
-
 import static com.devoxx.views.helper.SessionTrack.fetchPseudoClassForTrack;
 
 public class ScheduleCell extends CharmListCell<Session> {
@@ -69,6 +66,7 @@ public class ScheduleCell extends CharmListCell<Session> {
     private final BorderPane borderPane;
     private final SecondaryGraphic secondaryGraphic;
     private final Label trackLabel;
+    private final Label favLabel;
     private Label startDateLabel;
     private Label sessionTypeLabel;
     private Group trackLabelContainer;
@@ -78,6 +76,7 @@ public class ScheduleCell extends CharmListCell<Session> {
     private boolean showDate;
     private boolean showSessionType;
     private PseudoClass oldPseudoClass;
+    private Favorite boundFavorite;
 
     public ScheduleCell(Service service, SessionVisuals sessionVisuals) {
         this(service, sessionVisuals, false, false);
@@ -118,6 +117,19 @@ public class ScheduleCell extends CharmListCell<Session> {
 
         trackLabel.maxWidthProperty().bind(listTile.heightProperty());
 
+        favLabel = new Label();
+        favLabel.getStyleClass().add("fav-label");
+        Node favGraphic = MaterialDesignIcon.FAVORITE.graphic();
+        favGraphic.getStyleClass().add("fav-graphic");
+        favLabel.setGraphic(favGraphic);
+
+        listTile.setOnMouseReleased(event -> {
+            if (session != null && session.getTalk() != null) {
+                DevoxxView.SESSION.switchView().ifPresent(presenter ->
+                        ((SessionPresenter) presenter).showSession(session));
+            }
+        });
+
         borderPane = new BorderPane(listTile);
         if (showSessionType) {
             sessionTypeLabel = new Label();
@@ -132,6 +144,9 @@ public class ScheduleCell extends CharmListCell<Session> {
     @Override
     public void updateItem(Session item, boolean empty) {
         super.updateItem(item, empty);
+        if (session != null && session != item) {
+            service.cancelPrefetchSession(session);
+        }
         session = item;
         if (item != null && !empty) {
 
@@ -139,20 +154,18 @@ public class ScheduleCell extends CharmListCell<Session> {
                 secondaryGraphic.updateGraphic(session);
                 listTile.setPrimaryGraphic(trackLabelContainer);
                 listTile.setSecondaryGraphic(secondaryGraphic);
-                listTile.setOnMouseReleased(event -> {
-                    DevoxxView.SESSION.switchView().ifPresent(presenter ->
-                            ((SessionPresenter) presenter).showSession(session));
-                });
+                service.prefetchSession(session);
             } else if (item.getBreak() != null) {
                 listTile.setPrimaryGraphic(null);
                 listTile.setSecondaryGraphic(null);
-                listTile.setOnMouseReleased(null);
+                unbindFavorite();
             }
 
             updateListTile();
             updateSessionType();
             setGraphic(borderPane);
         } else {
+            unbindFavorite();
             setGraphic(null);
         }
     }
@@ -169,9 +182,10 @@ public class ScheduleCell extends CharmListCell<Session> {
     }
 
     private void updateListTile() {
+        final SessionDisplay display = session.getDisplay();
         if (session.getTalk() != null) {
-            if (session.getTalk().getTrack() != null) {
-                final String trackId = session.getTalk().getTrackId().toUpperCase();
+            final String trackId = display.getTrackId();
+            if (trackId != null) {
                 trackLabel.setText(trackId);
                 changePseudoClass(fetchPseudoClassForTrack(trackId));
             }
@@ -180,19 +194,13 @@ public class ScheduleCell extends CharmListCell<Session> {
                 listTile.setTextLine(0, session.getTalk().getTitle());
             }
 
-            List<TalkSpeaker> speakers = session.getTalk().getSpeakers();
-            listTile.setTextLine(1, convertSpeakersToString(speakers));
-            listTile.setTextLine(2, DevoxxBundle.getString("OTN.SCHEDULE.IN_AT",
-                    session.getRoomName(),
-                    DevoxxSettings.TIME_FORMATTER.format(session.getStartDate()),
-                    DevoxxSettings.TIME_FORMATTER.format(session.getEndDate())));
+            listTile.setTextLine(1, display.getSpeakers());
+            listTile.setTextLine(2, display.getTimeAndPlace());
             updateFavorite();
         } else if (session.getBreak() != null) {
             listTile.setTextLine(0, session.getBreak().getNameEN());
             listTile.setTextLine(1, "");
-            listTile.setTextLine(2, DevoxxBundle.getString("OTN.SCHEDULE.IN_AT_BREAK",
-                    DevoxxSettings.TIME_FORMATTER.format(session.getStartDate()),
-                    DevoxxSettings.TIME_FORMATTER.format(session.getEndDate())));
+            listTile.setTextLine(2, display.getTimeAndPlace());
             final VBox vBox = (VBox) listTile.getChildren().get(0);
             Label label = (Label) vBox.getChildren().get(vBox.getChildren().size() - 1);
             label.setGraphic(null);
@@ -201,9 +209,12 @@ public class ScheduleCell extends CharmListCell<Session> {
         
         if (showDate) {
             initializeStartLabel();
-            startDateLabel.setText(DevoxxSettings.DATE_FORMATTER.format(session.getStartDate()));
+            startDateLabel.setText(display.getDate());
             // Hacky Code as it uses internals of ListTile
-            ((VBox) listTile.getChildren().get(0)).getChildren().add(startDateLabel);
+            final VBox vBox = (VBox) listTile.getChildren().get(0);
+            if (!vBox.getChildren().contains(startDateLabel)) {
+                vBox.getChildren().add(startDateLabel);
+            }
         }
 
         pseudoClassStateChanged(PSEUDO_CLASS_COLORED, session.isDecorated());
@@ -211,20 +222,31 @@ public class ScheduleCell extends CharmListCell<Session> {
 
     private void updateFavorite() {
         Favorite fav = sessionVisuals.getFavoriteFor(session);
+        if (fav != boundFavorite) {
+            unbindFavorite();
+            favLabel.textProperty().bind(fav.favsProperty().asString());
+            favLabel.visibleProperty().bind(fav.favsProperty().greaterThanOrEqualTo(10));
+            boundFavorite = fav;
+        }
         // Hacky Code as it uses internals of ListTile
         final VBox vBox = (VBox) listTile.getChildren().get(0);
         Label label = (Label) vBox.getChildren().get(vBox.getChildren().size() - 1);
-        Label favLabel = new Label();
-        favLabel.textProperty().bind(fav.favsProperty().asString());
-        favLabel.visibleProperty().bind(fav.favsProperty().greaterThanOrEqualTo(10));
-        favLabel.getStyleClass().add("fav-label");
-        Node graphic = MaterialDesignIcon.FAVORITE.graphic();
-        graphic.getStyleClass().add("fav-graphic");
-        favLabel.setGraphic(graphic);
         label.setGraphic(favLabel);
         label.setContentDisplay(ContentDisplay.RIGHT);
     }
 
+    /**
+     * Releases the bindings to the favorite of the previous session, so the
+     * favorite doesn't keep listeners of reused cells
+     */
+    private void unbindFavorite() {
+        if (boundFavorite != null) {
+            favLabel.textProperty().unbind();
+            favLabel.visibleProperty().unbind();
+            boundFavorite = null;
+        }
+    }
+
     private void initializeStartLabel() {
         if (startDateLabel == null) {
             startDateLabel = new Label();
@@ -232,21 +254,6 @@ public class ScheduleCell extends CharmListCell<Session> {
         }
     }
 
-    private String convertSpeakersToString(List<TalkSpeaker> speakers) {
-        if (speakers.size() > 0) {
-            StringBuilder speakerTitle = new StringBuilder();
-            for (int index = 0; index < speakers.size(); index++) {
-                if (index < speakers.size() - 1) {
-                    speakerTitle.append(speakers.get(index).getName()).append(", ");
-                } else {
-                    speakerTitle.append(speakers.get(index).getName());
-                }
-            }
-            return speakerTitle.toString();
-        }
-        return "";
-    }
-
     private void changePseudoClass(PseudoClass pseudoClass) {
         pseudoClassStateChanged(oldPseudoClass, false);
         pseudoClassStateChanged(pseudoClass, true);
@@ -258,18 +265,19 @@ public class ScheduleCell extends CharmListCell<Session> {
         private final Node chevron;
         private StackPane indicator;
         private Session currentSession;
+        private final InvalidationListener favoredSessionsListener = (Observable observable) -> {
+            if (currentSession != null) {
+                updateGraphic(currentSession);
+            }
+        };
 
         public SecondaryGraphic() {
             chevron = MaterialDesignIcon.CHEVRON_RIGHT.graphic();
             indicator = createIndicator(SessionVisuals.SessionListType.FAVORITES, true);
             getChildren().addAll(chevron, indicator);
-            InvalidationListener il = (Observable observable) -> {
-                if (currentSession != null) {
-                    updateGraphic(currentSession);
-                }
-            };
             if (service.isAuthenticated()) {
-                service.retrieveFavoredSessions().addListener(il);
+                // weak, so discarded cells don't stay registered in the favored sessions list
+                service.retrieveFavoredSessions().addListener(new WeakInvalidationListener(favoredSessionsListener));
             }
         }
 
@@ -25,28 +25,19 @@
  */
 package com.devoxx.views.helper;
 
-import com.devoxx.model.Note;
 import com.devoxx.service.Service;
 import com.devoxx.util.DevoxxBundle;
 import com.devoxx.util.DevoxxSettings;
-import javafx.animation.KeyFrame;
-import javafx.animation.Timeline;
-import javafx.collections.ObservableList;
 import javafx.scene.control.Label;
 import javafx.scene.control.TextArea;
 import javafx.scene.layout.Priority;
 import javafx.scene.layout.VBox;
-import javafx.util.Duration;
 
 public class SessionNotesEditor extends VBox {
-    private static final int WAIT_TIME = 3000; // In milliseconds
 
-    private final Timeline timer;
     private final TextArea textArea;
     private final String sessionUuid;
     private final Service service;
-    private boolean textChanged;
-    private Note currentNote;
 
     public SessionNotesEditor(String sessionUuid, Service service) {
         this.sessionUuid = sessionUuid;
@@ -56,20 +47,7 @@ public class SessionNotesEditor extends VBox {
         title.getStyleClass().add("title");
         VBox.setVgrow(title, Priority.NEVER);
 
-        timer = new Timeline();
-        timer.setCycleCount(1);
-        KeyFrame keyFrame = new KeyFrame(Duration.millis(WAIT_TIME), event -> {
-            if (textChanged) {
-                saveNotes();
-            }
-        });
-        timer.getKeyFrames().add(keyFrame);
-
         textArea = new TextArea();
-        textArea.textProperty().addListener((observable, oldValue, newValue) -> {
-            textChanged = true;
-            timer.playFromStart();
-        });
 
         VBox.setVgrow(textArea, Priority.ALWAYS);
 
@@ -77,44 +55,24 @@ public class SessionNotesEditor extends VBox {
         getChildren().addAll(title, textArea);
 
         findAndSetNote();
+
+        // the service applies and persists the edits in batches
+        textArea.textProperty().addListener((observable, oldValue, newValue) ->
+                service.saveNote(sessionUuid, newValue));
     }
 
     private void findAndSetNote() {
         if (service.isAuthenticated() || !DevoxxSettings.USE_REMOTE_NOTES) {
-            ObservableList<Note> notes = service.retrieveNotes();
-            for (Note note : notes) {
-                if (note.getSessionUuid().equals(sessionUuid)) {
-                    currentNote = note;
-                    textArea.setText(note.getContent());
-                    break;
-                }
-            }
+            service.findNote(sessionUuid)
+                    .ifPresent(note -> textArea.setText(note.getContent()));
         }
     }
 
+    /**
+     * Persists the pending edits of the note right away
+     */
     public void saveNotes() {
-        if (!textChanged) {
-            return;
-        }
-
-        boolean isNewNote = currentNote == null;
-        if (isNewNote) {
-            currentNote = new Note(sessionUuid);
-        }
-        // Update the content irrespective of whether its a new Note
-        currentNote.setContent(textArea.getText());
-
-        // If there is no text, remove it from the list
-        // If it is not yet added to the list, it will be NO-OP
-        if(currentNote.getContent().isEmpty()) {
-            service.retrieveNotes().remove(currentNote);
-        } else {
-            if(isNewNote) {
-                ObservableList<Note> notes = service.retrieveNotes();
-                notes.add(currentNote);
-            }
-        }
-        textChanged = false;
+        service.flushNotes();
     }
 
 }
@@ -26,9 +26,7 @@
 package com.devoxx.views.helper;
 
 import com.devoxx.model.Conference;
-import com.devoxx.model.Session;
 import com.devoxx.model.Speaker;
-import com.devoxx.service.Service;
 import com.devoxx.util.DevoxxBundle;
 import com.devoxx.util.ImageCache;
 import com.devoxx.views.ExhibitionMapPresenter;
@@ -45,7 +43,6 @@ import com.gluonhq.charm.glisten.control.Toast;
 import com.gluonhq.charm.glisten.layout.Layer;
 import com.gluonhq.charm.glisten.visual.MaterialDesignIcon;
 import com.gluonhq.cloudlink.client.media.MediaClient;
-import javafx.beans.property.ReadOnlyListProperty;
 import javafx.event.ActionEvent;
 import javafx.event.EventHandler;
 import javafx.scene.control.Button;
@@ -59,9 +56,7 @@ import javafx.util.Duration;
 
 import java.io.IOException;
 import java.net.URISyntaxException;
-import java.time.ZonedDateTime;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.List;
 import java.util.Random;
 import java.util.function.Supplier;
@@ -265,51 +260,6 @@ public class Util {
         pastConferenceMessage.show();
     }
 
-    public static Session findLastSessionOfLastDay(Service service) {
-        ReadOnlyListProperty<Session> sessions = service.retrieveSessions();
-        Session lastSession = sessions.get(0);
-        for (Session session : sessions) {
-            if (session.getStartDate().toLocalDate().equals(service.getConference().getEndDateTime().toLocalDate())) {
-                ZonedDateTime sessionStartTime = session.getStartDate();
-                if (sessionStartTime.isAfter(lastSession.getStartDate())) {
-                    lastSession = session;
-                }
-            }
-        }
-        return lastSession;
-    }
-
-    /**
-     * Adds a value against a key in local storage in csv format
-     * @param key key against which the value is to be stored
-     * @param newValue The new value to the added
-     */
-    public static void addCSVToLocalStorage(String key, String newValue) {
-        Services.get(SettingsService.class).ifPresent(ss -> {
-            String previousValues = ss.retrieve(key);
-            if (previousValues != null && !previousValues.isEmpty()) {
-                ss.store(key, previousValues + "," + newValue);
-            } else {
-                ss.store(key, newValue);
-            }
-        });
-    }
-
-    /**
-     * Accepts a key and returns the CSV format values saved against the key as a List
-     * @param key Key against which values are stored
-     * @return List of values if values are present else empty list.
-     */
-    public static List<String> fetchCSVFromLocalStorage(String key) {
-        return Services.get(SettingsService.class).map(ss -> {
-            String values = ss.retrieve(key);
-            if (values != null && !values.isEmpty()) {
-                return Arrays.asList(values.split(","));
-            }
-            return Collections.<String>emptyList();
-        }).orElse(Collections.emptyList());
-    }
-
     /**
      * Returns true if the supplied conference has started but is yet to end
      * @param conference Conference to check
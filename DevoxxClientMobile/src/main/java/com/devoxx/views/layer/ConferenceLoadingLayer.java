@@ -27,6 +27,7 @@ package com.devoxx.views.layer;
 
 import com.devoxx.DevoxxView;
 import com.devoxx.model.Conference;
+import com.devoxx.service.LoadState;
 import com.devoxx.service.Service;
 import com.gluonhq.charm.down.Services;
 import com.gluonhq.charm.down.plugins.DisplayService;
@@ -55,10 +56,15 @@ import javafx.beans.property.SimpleBooleanProperty;
 public class ConferenceLoadingLayer extends Layer {
 
     private static final Duration TIMEOUT = Duration.seconds(15);
+    private static final Duration MIN_TIMEOUT = Duration.seconds(5);
+    private static final Duration MAX_TIMEOUT = Duration.seconds(30);
+    // times the average load time to wait before giving up
+    private static final int TIMEOUT_FACTOR = 3;
     private static final Map<Conference, ConferenceLoadingLayer> map = new HashMap<>();
     private static final PseudoClass PSEUDO_CLASS_VOXXED = PseudoClass.getPseudoClass("voxxed");
 
     private final Service service;
+    private final Conference conference;
     private final GlassPane glassPane;
     private final DisplayService displayService;
 
@@ -67,11 +73,12 @@ public class ConferenceLoadingLayer extends Layer {
     private final ProgressIndicator progressIndicator;
 
     private final PauseTransition timeout;
-    private final InvalidationListener sessionsListener;
+    private final InvalidationListener loadStateListener;
     private final BooleanProperty shown;
 
     private ConferenceLoadingLayer(Service service, Conference conference) {
         this.service = service;
+        this.conference = conference;
         glassPane = MobileApplication.getInstance().getGlassPane();
         displayService = Services.get(DisplayService.class).orElse(null);
 
@@ -90,8 +97,8 @@ public class ConferenceLoadingLayer extends Layer {
         timeout = new PauseTransition(TIMEOUT);
         timeout.setOnFinished(e -> hide());
         // Listener helps for quick response in cases where data has been cached
-        sessionsListener = o -> {
-            if (service.retrieveSessions().size() > 0) {
+        loadStateListener = o -> {
+            if (isLoaded()) {
                 doHide();
             }
         };
@@ -116,9 +123,34 @@ public class ConferenceLoadingLayer extends Layer {
     @Override
     public void show() {
         shown.set(false);
+        timeout.setDuration(getTimeout());
         timeout.playFromStart();
-        service.retrieveSessions().addListener(sessionsListener);
+        service.sessionsLoadStateProperty().addListener(loadStateListener);
         super.show();
+        if (isLoaded()) {
+            // a local snapshot of the sessions is available
+            doHide();
+        }
+    }
+
+    private boolean isLoaded() {
+        if (!conference.equals(service.getConference())) {
+            return false;
+        }
+        LoadState state = service.sessionsLoadStateProperty().get();
+        return (state == LoadState.CACHED || state == LoadState.FRESH) && !service.retrieveSessions().isEmpty();
+    }
+
+    private Duration getTimeout() {
+        long loadTime = service.getSessionsLoadTime(conference.getId());
+        if (loadTime <= 0) {
+            return TIMEOUT;
+        }
+        Duration duration = Duration.millis(loadTime * TIMEOUT_FACTOR);
+        if (duration.lessThan(MIN_TIMEOUT)) {
+            return MIN_TIMEOUT;
+        }
+        return duration.greaterThan(MAX_TIMEOUT) ? MAX_TIMEOUT : duration;
     }
 
     private void doHide() {
@@ -140,7 +172,7 @@ public class ConferenceLoadingLayer extends Layer {
     @Override
     public void hide() {
         if (timeout.getStatus() != STOPPED) timeout.stop();
-        service.retrieveSessions().removeListener(sessionsListener);
+        service.sessionsLoadStateProperty().removeListener(loadStateListener);
         if (!isShowing()) return;
         DevoxxView.SESSIONS.switchView();
         if (service.getConference() != null && isConferenceFromPast(service.getConference())) {
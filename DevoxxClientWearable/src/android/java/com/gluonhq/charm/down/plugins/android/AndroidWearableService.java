@@ -31,23 +31,35 @@ import android.view.Window;
 import android.view.WindowManager;
 import com.devoxx.model.Conference;
 import com.devoxx.model.Session;
+import com.devoxx.model.SessionDetails;
+import com.devoxx.model.SessionsDigest;
 import com.devoxx.model.Speaker;
 import com.devoxx.model.Talk;
 import com.devoxx.model.WearSpeaker;
 import com.devoxx.util.WearableConstants;
+import com.devoxx.views.helper.SpeakerImageCache;
 import com.gluonhq.charm.down.plugins.WearableService;
 import com.google.android.gms.common.api.GoogleApiClient;
+import com.google.android.gms.wearable.Asset;
 import com.google.android.gms.wearable.DataApi;
 import com.google.android.gms.wearable.DataEvent;
 import com.google.android.gms.wearable.DataEventBuffer;
 import com.google.android.gms.wearable.DataMap;
 import com.google.android.gms.wearable.DataMapItem;
+import com.google.android.gms.wearable.MessageApi;
 import com.google.android.gms.wearable.Node;
-import com.google.android.gms.wearable.NodeApi;
 import com.google.android.gms.wearable.Wearable;
 import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -64,13 +76,66 @@ public class AndroidWearableService implements WearableService, GoogleApiClient.
     private static final Logger LOG = Logger.getLogger(AndroidWearableService.class.getName());
 
     private GoogleApiClient mApiClient;
-    private Consumer dataHandler;
+
+    // number of requests whose handlers are kept, waiting for their responses
+    private static final int MAX_PENDING_REQUESTS = 32;
+
+    /**
+     * Handlers of the most recent requests, by request id
+     */
+    private final Map<Long, Consumer> requestHandlers = Collections.synchronizedMap(
+            new LinkedHashMap<Long, Consumer>() {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, Consumer> eldest) {
+                    return size() > MAX_PENDING_REQUESTS;
+                }
+            });
+
+    /**
+     * Handler of the last request of each kind, by the path of its response,
+     * for the responses without request id
+     */
+    private final Map<String, Consumer> dataHandlers = new ConcurrentHashMap<>();
+
+    private final AtomicLong requestIds = new AtomicLong();
+
+    /**
+     * Request ids are only added to the requests once the mobile has shown
+     * that it understands them: older mobiles would read the extra path segment
+     * as part of the request arguments
+     */
+    private volatile boolean requestIdsSupported;
+
+    /**
+     * Connected nodes, queried again only after a connection or a failed message
+     */
+    private volatile List<Node> nodes;
+
+    /**
+     * Single thread that sends all the messages, in order
+     */
+    private final ExecutorService messagePump = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = Executors.defaultThreadFactory().newThread(r);
+        thread.setName("WearableMessagePumpThread");
+        thread.setDaemon(true);
+        return thread;
+    });
 
     private final ReadOnlyBooleanWrapper error = new ReadOnlyBooleanWrapper();
+
+    private final ExecutorService assetExecutor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = Executors.defaultThreadFactory().newThread(r);
+        thread.setName("WearableAssetThread");
+        thread.setDaemon(true);
+        return thread;
+    });
     
     @Override
     public void connect() {
         disconnect();
+        nodes = null;
+        // a different mobile may be connected
+        requestIdsSupported = false;
         mApiClient = new GoogleApiClient.Builder(FXWearableActivity.getInstance())
                 .addApi(Wearable.API)
                 .addConnectionCallbacks(this)
@@ -82,26 +147,82 @@ public class AndroidWearableService implements WearableService, GoogleApiClient.
     @Override
     public <T> void sendMessage(String path, String message, Consumer<T> dataHandler) {
         
-        this.dataHandler = dataHandler;
+        final long requestId = requestIds.incrementAndGet();
+        final String responsePath = getResponsePath(path);
+        if (dataHandler != null) {
+            requestHandlers.put(requestId, dataHandler);
+            dataHandlers.put(responsePath, dataHandler);
+        } else {
+            dataHandlers.remove(responsePath);
+        }
+        final String requestPath = requestIdsSupported ?
+                path + WearableConstants.REQUEST_ID_PATH + requestId : path;
         error.set(false);
                 
         if (mApiClient == null || !mApiClient.isConnected()) {
             connect();
         }
         
-        new Thread(() -> {
+        final byte[] bytes = message.getBytes();
+        messagePump.execute(() -> {
             // broadcast the message to all connected devices
-            final NodeApi.GetConnectedNodesResult nodes = Wearable.NodeApi.getConnectedNodes(mApiClient).await();
-            if (nodes.getNodes().isEmpty()) {
+            final List<Node> connectedNodes = getConnectedNodes();
+            if (connectedNodes.isEmpty()) {
                 LOG.log(Level.WARNING, "Wearable Service error: No nodes found");
-                error.set(true);
+                Platform.runLater(() -> error.set(true));
             } else {
-                LOG.log(Level.INFO, String.format("Sending message to handheld: %s %s", path, message));
-                for (Node node : nodes.getNodes()) {
-                    Wearable.MessageApi.sendMessage(mApiClient, node.getId(), path, message.getBytes()).await();
+                LOG.log(Level.INFO, String.format("Sending message to handheld: %s %s", requestPath, message));
+                for (Node node : connectedNodes) {
+                    MessageApi.SendMessageResult result = Wearable.MessageApi.sendMessage(mApiClient, node.getId(), requestPath, bytes).await();
+                    if (!result.getStatus().isSuccess()) {
+                        LOG.log(Level.WARNING, "Wearable Service error: message not sent to " + node.getDisplayName());
+                        nodes = null;
+                    }
                 }
             }
-        }).start();
+        });
+    }
+
+    private List<Node> getConnectedNodes() {
+        List<Node> connectedNodes = nodes;
+        if (connectedNodes == null || connectedNodes.isEmpty()) {
+            connectedNodes = Wearable.NodeApi.getConnectedNodes(mApiClient).await().getNodes();
+            nodes = connectedNodes;
+        }
+        return connectedNodes;
+    }
+
+    /**
+     * Returns the handler of the request a response belongs to: by the request
+     * id the mobile returns, or else the handler of the last request of its kind
+     */
+    private Consumer getDataHandler(String eventPath, DataMap dataMap) {
+        if (dataMap.getBoolean(WearableConstants.DATAMAP_REQUEST_ID_SUPPORTED, false)) {
+            requestIdsSupported = true;
+        }
+        final long requestId = dataMap.getLong(WearableConstants.DATAMAP_REQUEST_ID, 0L);
+        if (requestId > 0) {
+            return requestHandlers.get(requestId);
+        }
+        return dataHandlers.get(getResponsePath(eventPath));
+    }
+
+    /**
+     * Returns the path the mobile sends the response of a request to: the
+     * channel and the first segment of the request path, without arguments.
+     * Setting a favorite is answered like a favorite request.
+     */
+    private static String getResponsePath(String path) {
+        String requestPath = path.startsWith(WearableConstants.CHANNEL_ID) ?
+                path.substring(WearableConstants.CHANNEL_ID.length()) : path;
+        final int index = requestPath.indexOf('/', 1);
+        if (index > 0) {
+            requestPath = requestPath.substring(0, index);
+        }
+        if (WearableConstants.SESSION_SET_FAV_PATH.equals(requestPath)) {
+            requestPath = WearableConstants.SESSION_FAV_PATH;
+        }
+        return WearableConstants.CHANNEL_ID + requestPath;
     }
     
     @Override
@@ -134,6 +255,7 @@ public class AndroidWearableService implements WearableService, GoogleApiClient.
                 }
                 
                 final String eventPath = event.getDataItem().getUri().getPath();
+                final Consumer dataHandler = getDataHandler(eventPath, dataMapItem.getDataMap());
                 LOG.log(Level.INFO, String.format("Wearable Service Data from event type %s: %s", event.getType(), eventPath));
 
                 // Check if we have received the conference list
@@ -166,6 +288,15 @@ public class AndroidWearableService implements WearableService, GoogleApiClient.
                     }
                 } else if (eventPath.startsWith(WearableConstants.CHANNEL_ID + WearableConstants.SESSIONS_PATH)) {
 
+                    final String version = dataMapItem.getDataMap().getString(WearableConstants.DATAMAP_SESSIONS_VERSION, "");
+                    if (dataMapItem.getDataMap().getBoolean(WearableConstants.DATAMAP_SESSIONS_NOT_MODIFIED, false)) {
+                        // the cached sessions are still valid
+                        if (dataHandler != null) {
+                            Platform.runLater(() -> dataHandler.accept(SessionsDigest.notModified(version)));
+                        }
+                        return;
+                    }
+
                     List<DataMap> sessionsDataMap = dataMapItem.getDataMap().getDataMapArrayList(WearableConstants.LIST_PATH);
                     if (sessionsDataMap == null) {
                         return;
@@ -178,10 +309,8 @@ public class AndroidWearableService implements WearableService, GoogleApiClient.
                         Session session = new Session();
                         session.setRoomName(sessionDataMap.getString(WearableConstants.DATAMAP_SESSION_ROOM, ""));
                         session.setSlotId(sessionDataMap.getString(WearableConstants.DATAMAP_SESSION_SLOT_ID, ""));
-                        session.setDay(sessionDataMap.getString(WearableConstants.DATAMAP_SESSION_DAY, ""));
                         Talk talk = new Talk();
                         talk.setTitle(sessionDataMap.getString(WearableConstants.DATAMAP_SESSION_TITLE, ""));
-                        talk.setSummary(sessionDataMap.getString(WearableConstants.DATAMAP_SESSION_SUMMARY, ""));
                         session.setTalk(talk);
                         session.setFromTime(sessionDataMap.getString(WearableConstants.DATAMAP_SESSION_FROM_TIME, ""));
                         session.setToTime(sessionDataMap.getString(WearableConstants.DATAMAP_SESSION_TO_TIME, ""));
@@ -191,7 +320,7 @@ public class AndroidWearableService implements WearableService, GoogleApiClient.
 
                     // send data back, update UI
                     if (dataHandler != null) {
-                        Platform.runLater(() -> dataHandler.accept(sessionsList));
+                        Platform.runLater(() -> dataHandler.accept(new SessionsDigest(version, sessionsList)));
                     }
                 } else if (eventPath.startsWith(WearableConstants.CHANNEL_ID + WearableConstants.SESSION_FAV_PATH)) {
                     DataMap dataMap = dataMapItem.getDataMap();
@@ -214,32 +343,38 @@ public class AndroidWearableService implements WearableService, GoogleApiClient.
                         return;
                     }
 
-                    // fetch the sessions
-                    List<WearSpeaker> speakersList = new ArrayList<>();
-
-                    for (DataMap speakerDataMap : speakersDataMap) {
-                        WearSpeaker speaker = new WearSpeaker();
-                        Speaker s = new Speaker();
-                        s.setFirstName(speakerDataMap.getString(WearableConstants.DATAMAP_SPEAKER_FIRST_NAME, ""));
-                        s.setLastName(speakerDataMap.getString(WearableConstants.DATAMAP_SPEAKER_LAST_NAME, ""));
-                        s.setTwitter(speakerDataMap.getString(WearableConstants.DATAMAP_SPEAKER_TWITTER, ""));
-                        speaker.setSpeaker(s);
-
-                        final String encoded = speakerDataMap.getString(WearableConstants.DATAMAP_SPEAKER_IMAGE);
-                        if (encoded != null && !encoded.isEmpty()) {
-                            byte[] imageBytes = Base64.decode(encoded, Base64.DEFAULT);
-
-                            if (imageBytes != null) {
-                                speaker.setImage(new Image(new ByteArrayInputStream(imageBytes)));
-                            }
+                    // images are read from their assets, which can't be done on the UI thread
+                    assetExecutor.execute(() -> {
+                        // fetch the speakers
+                        List<WearSpeaker> speakersList = getSpeakers(speakersDataMap);
+
+                        // send data back, update UI
+                        if (dataHandler != null) {
+                            Platform.runLater(() -> dataHandler.accept(speakersList));
                         }
-                        speakersList.add(speaker);
+                    });
+                } else if (eventPath.startsWith(WearableConstants.CHANNEL_ID + WearableConstants.SESSION_DETAILS_PATH)) {
+                    DataMap dataMap = dataMapItem.getDataMap();
+                    if (dataMap == null) {
+                        return;
                     }
 
-                    // send data back, update UI
-                    if (dataHandler != null) {
-                        Platform.runLater(() -> dataHandler.accept(speakersList));
-                    }
+                    DataMap sessionDataMap = dataMap.getDataMap(WearableConstants.OBJECT_PATH);
+                    final SessionDetails details = new SessionDetails();
+                    details.setSlotId(sessionDataMap.getString(WearableConstants.DATAMAP_SESSION_SLOT_ID, ""));
+                    details.setSummary(sessionDataMap.getString(WearableConstants.DATAMAP_SESSION_SUMMARY, ""));
+                    details.setNoAuth(sessionDataMap.getBoolean(WearableConstants.DATAMAP_NO_AUTH));
+                    details.setFavorite(sessionDataMap.getBoolean(WearableConstants.DATAMAP_SESSION_IS_FAV));
+
+                    final List<DataMap> speakersDataMap = dataMap.getDataMapArrayList(WearableConstants.LIST_PATH);
+                    assetExecutor.execute(() -> {
+                        if (speakersDataMap != null) {
+                            details.setSpeakers(getSpeakers(speakersDataMap));
+                        }
+                        if (dataHandler != null) {
+                            Platform.runLater(() -> dataHandler.accept(details));
+                        }
+                    });
                 } else if (eventPath.startsWith(WearableConstants.CHANNEL_ID + WearableConstants.SESSION_SUMMARY_PATH)) {
                     DataMap dataMap = dataMapItem.getDataMap();
                     if (dataMap == null) {
@@ -265,6 +400,55 @@ public class AndroidWearableService implements WearableService, GoogleApiClient.
         }
     }
 
+    private List<WearSpeaker> getSpeakers(List<DataMap> speakersDataMap) {
+        List<WearSpeaker> speakersList = new ArrayList<>();
+        for (DataMap speakerDataMap : speakersDataMap) {
+            WearSpeaker speaker = new WearSpeaker();
+            Speaker s = new Speaker();
+            s.setFirstName(speakerDataMap.getString(WearableConstants.DATAMAP_SPEAKER_FIRST_NAME, ""));
+            s.setLastName(speakerDataMap.getString(WearableConstants.DATAMAP_SPEAKER_LAST_NAME, ""));
+            s.setTwitter(speakerDataMap.getString(WearableConstants.DATAMAP_SPEAKER_TWITTER, ""));
+            speaker.setSpeaker(s);
+            speaker.setImage(getSpeakerImage(speakerDataMap));
+            speakersList.add(speaker);
+        }
+        return speakersList;
+    }
+
+    /**
+     * Speaker images are sent as binary assets, keyed by the hash of their content.
+     * An image already cached on the wearable is not transferred again.
+     * Base64 encoded images are still accepted.
+     */
+    private Image getSpeakerImage(DataMap speakerDataMap) {
+        final String hash = speakerDataMap.getString(WearableConstants.DATAMAP_SPEAKER_IMAGE_HASH, "");
+        if (!hash.isEmpty()) {
+            final Asset asset = speakerDataMap.getAsset(WearableConstants.DATAMAP_SPEAKER_IMAGE_ASSET);
+            return SpeakerImageCache.get(hash, () -> asset == null ? null : openAsset(asset));
+        }
+
+        final String encoded = speakerDataMap.getString(WearableConstants.DATAMAP_SPEAKER_IMAGE);
+        if (encoded != null && !encoded.isEmpty()) {
+            byte[] imageBytes = Base64.decode(encoded, Base64.DEFAULT);
+            if (imageBytes != null) {
+                return new Image(new ByteArrayInputStream(imageBytes));
+            }
+        }
+        return null;
+    }
+
+    private InputStream openAsset(Asset asset) {
+        if (mApiClient == null || !mApiClient.isConnected()) {
+            return null;
+        }
+        DataApi.GetFdForAssetResult result = Wearable.DataApi.getFdForAsset(mApiClient, asset).await();
+        if (!result.getStatus().isSuccess()) {
+            LOG.log(Level.WARNING, "Wearable Service error: asset not available " + result.getStatus());
+            return null;
+        }
+        return result.getInputStream();
+    }
+
     @Override
     public boolean isAmbientMode() {
         return FXWearableActivity.getInstance().isAmbientMode();
@@ -0,0 +1,62 @@
+/**
+ * Copyright (c) 2017, Gluon Software
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the
+ * following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation and/or other materials provided
+ *    with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse
+ *    or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES,
+ * INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.charm.down.plugins.desktop;
+
+import com.devoxx.views.helper.SpeakerImageCache;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Stand-in for the binary assets of the wearable data layer, so they can be tested
+ * on desktop: assets are kept in memory, keyed by the hash of their content
+ */
+class DesktopAssetChannel {
+
+    private final Map<String, byte[]> assets = new ConcurrentHashMap<>();
+
+    /**
+     * Sends the bytes as an asset
+     * @param bytes the content of the asset
+     * @return the hash that identifies the asset
+     */
+    String putAsset(byte[] bytes) {
+        String hash = SpeakerImageCache.hashOf(bytes);
+        assets.putIfAbsent(hash, bytes);
+        return hash;
+    }
+
+    /**
+     * Opens the asset with the given hash
+     * @param hash the hash that identifies the asset
+     * @return a stream with the content of the asset, or null if it wasn't sent
+     */
+    InputStream openAsset(String hash) {
+        byte[] bytes = assets.get(hash);
+        return bytes == null ? null : new ByteArrayInputStream(bytes);
+    }
+}
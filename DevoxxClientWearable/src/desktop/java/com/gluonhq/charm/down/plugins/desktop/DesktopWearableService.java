@@ -25,35 +25,55 @@
  */
 package com.gluonhq.charm.down.plugins.desktop;
 
+import com.airhacks.afterburner.injection.Injector;
 import com.devoxx.model.Conference;
-import com.devoxx.model.Link;
 import com.devoxx.model.Session;
+import com.devoxx.model.SessionDetails;
+import com.devoxx.model.SessionsDigest;
 import com.devoxx.model.Speaker;
 import com.devoxx.model.Talk;
 import com.devoxx.model.TalkSpeaker;
 import com.devoxx.model.WearSpeaker;
 import com.devoxx.service.DevoxxService;
 import com.devoxx.service.Service;
+import com.devoxx.util.ImageCache;
 import com.devoxx.util.WearableConstants;
+import com.devoxx.views.helper.SpeakerImageCache;
 import com.devoxx.views.helper.Util;
 import com.gluonhq.charm.down.plugins.WearableService;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.io.InputStream;
-import java.net.URL;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.concurrent.CountDownLatch;
-import java.util.concurrent.TimeUnit;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import javafx.animation.PauseTransition;
 import javafx.application.Platform;
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
 import javafx.beans.property.ReadOnlyBooleanProperty;
 import javafx.beans.property.ReadOnlyObjectProperty;
 import javafx.beans.property.SimpleBooleanProperty;
-import javafx.collections.ObservableList;
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableValue;
+import javafx.collections.ListChangeListener;
+import javafx.embed.swing.SwingFXUtils;
 import javafx.scene.image.Image;
+import javafx.util.Duration;
+import javax.imageio.ImageIO;
 
 /**
  * This service implementation allows testing the wearable service on desktop
@@ -64,9 +84,77 @@ public class DesktopWearableService implements WearableService {
 
     private static final Logger LOG = Logger.getLogger(DesktopWearableService.class.getName());
 
-    private Service service;
-    
+    /**
+     * Handles a request from the wearable
+     */
+    private interface RequestHandler {
+        void handle(String path, String data, Consumer<Object> dataHandler);
+    }
+
+    /**
+     * A single service is shared by all the requests from the wearable, so
+     * they are answered with the data already loaded
+     */
+    private static Service service;
+
+    private static final int SPEAKERS_TIME_OUT = 10; // seconds
+
+    /**
+     * Bounded executor for the speakers requests, regardless of how often the wearable asks for them
+     */
+    private static final AtomicInteger THREAD_NUMBER = new AtomicInteger(0);
+    private static final ExecutorService SPEAKERS_EXECUTOR = Executors.newFixedThreadPool(2, runnable -> {
+        Thread thread = Executors.defaultThreadFactory().newThread(runnable);
+        thread.setName("WearableSpeakersThread-" + THREAD_NUMBER.getAndIncrement());
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private static Image defaultImage;
+
+    private static final DesktopAssetChannel assetChannel = new DesktopAssetChannel();
+    private static final Map<String, String> imageHashes = new ConcurrentHashMap<>();
+
+    private final Map<String, RequestHandler> handlers = new HashMap<>();
+    private final Map<String, Session> sessionsBySlotId = new HashMap<>();
+    private boolean sessionsIndexValid;
+
+    /**
+     * Session digests by conference day, computed once per schedule load
+     */
+    private Map<Integer, SessionsDigest> sessionsDigests;
+
     public DesktopWearableService() {
+        getService().retrieveSessions().addListener((ListChangeListener<Session>) c -> {
+            sessionsIndexValid = false;
+            sessionsDigests = null;
+        });
+
+        handlers.put(WearableConstants.CONFERENCES_PATH, (path, data, dataHandler) -> sendConferences(typed(dataHandler)));
+        handlers.put(WearableConstants.SESSIONS_PATH, (path, data, dataHandler) ->
+                whenSessionsAvailable(() -> sendSessions(path, data, typed(dataHandler))));
+        handlers.put(WearableConstants.SESSION_SET_FAV_PATH, (path, data, dataHandler) ->
+                setFavSession(path.substring((WearableConstants.CHANNEL_ID + WearableConstants.SESSION_SET_FAV_PATH).length() + 1),
+                        Boolean.parseBoolean(data), typed(dataHandler)));
+        handlers.put(WearableConstants.SESSION_FAV_PATH, (path, data, dataHandler) -> sendFavSession(data, typed(dataHandler)));
+        handlers.put(WearableConstants.SPEAKERS_PATH, (path, data, dataHandler) -> sendSpeakers(data, typed(dataHandler)));
+        handlers.put(WearableConstants.TWITTER_PATH, (path, data, dataHandler) -> followOnTwitter(data));
+        handlers.put(WearableConstants.SESSION_SUMMARY_PATH, (path, data, dataHandler) -> sendSummary(data, typed(dataHandler)));
+        handlers.put(WearableConstants.SESSION_DETAILS_PATH, (path, data, dataHandler) -> sendSessionDetails(data, typed(dataHandler)));
+        handlers.put(WearableConstants.OPEN_MOBILE_PATH, (path, data, dataHandler) -> openMobile(data));
+    }
+
+    private static synchronized Service getService() {
+        if (service == null) {
+            try {
+                // use the application service, if it has been bound
+                service = Injector.instantiateModelOrService(Service.class);
+            } catch (IllegalStateException ise) {
+                LOG.log(Level.INFO, "No Service bound, creating one for the wearable");
+                service = new DevoxxService();
+            }
+        }
+        return service;
     }
     
     @Override
@@ -87,39 +175,85 @@ public class DesktopWearableService implements WearableService {
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public <T> void sendMessage(String path, String data, Consumer<T> dataHandler) {
-        // Comms between wearable and mobile always create a new service
-        service = new DevoxxService();
-        
-        if (path.startsWith(WearableConstants.CHANNEL_ID + WearableConstants.CONFERENCES_PATH)) {
-            // send conferences to the Wearable
-            sendConferences((Consumer<List<Conference>>) dataHandler);
-        } else if (path.startsWith(WearableConstants.CHANNEL_ID + WearableConstants.SESSIONS_PATH)) {
-            // send sessions to the Wearable
-            if (service.retrieveSessions().size() > 0) {
-                sendSessions(Integer.parseInt(data), (Consumer<List<Session>>) dataHandler);
-            } else {
-                service.retrieveSessions().addListener((obs, ov, nv) -> {
-                    if (nv != null && nv.size() > 0) {
-                        sendSessions(Integer.parseInt(data), (Consumer<List<Session>>) dataHandler);
+        RequestHandler handler = handlers.get(getRequestKey(path));
+        if (handler != null) {
+            // each request path defines the type of its reply, expected by the caller
+            handler.handle(path, data, dataHandler == null ? null : o -> dataHandler.accept((T) o));
+        } else {
+            LOG.log(Level.WARNING, "No handler for wearable request " + path);
+        }
+    }
+
+    /**
+     * Adapts the reply handler of a request to the type of its reply
+     */
+    private static <T> Consumer<T> typed(Consumer<Object> dataHandler) {
+        return dataHandler == null ? null : dataHandler::accept;
+    }
+
+    /**
+     * Paths have the form CHANNEL_ID + request path [+ "/" + argument]
+     * @param path the path of the message
+     * @return the request path, used as key of the handlers
+     */
+    private static String getRequestKey(String path) {
+        if (!path.startsWith(WearableConstants.CHANNEL_ID)) {
+            return path;
+        }
+        String requestPath = path.substring(WearableConstants.CHANNEL_ID.length());
+        int index = requestPath.indexOf('/', 1);
+        return index > 0 ? requestPath.substring(0, index) : requestPath;
+    }
+
+    /**
+     * Runs the request as soon as the service is ready
+     */
+    private void whenReady(Runnable request) {
+        if (service.readyProperty().get()) {
+            request.run();
+        } else {
+            service.readyProperty().addListener(new ChangeListener<Boolean>() {
+                @Override
+                public void changed(ObservableValue<? extends Boolean> obs, Boolean ov, Boolean nv) {
+                    if (nv) {
+                        service.readyProperty().removeListener(this);
+                        request.run();
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * Runs the request as soon as the sessions are available
+     */
+    private void whenSessionsAvailable(Runnable request) {
+        if (service.retrieveSessions().size() > 0) {
+            request.run();
+        } else {
+            service.retrieveSessions().addListener(new InvalidationListener() {
+                @Override
+                public void invalidated(Observable observable) {
+                    if (service.retrieveSessions().size() > 0) {
+                        service.retrieveSessions().removeListener(this);
+                        request.run();
                     }
-                });
+                }
+            });
+        }
+    }
+
+    private Session findSessionBySlotId(String slotId) {
+        if (!sessionsIndexValid) {
+            sessionsBySlotId.clear();
+            for (Session session : service.retrieveSessions()) {
+                sessionsBySlotId.put(session.getSlotId(), session);
             }
-        } else if (path.startsWith(WearableConstants.CHANNEL_ID + WearableConstants.SESSION_SET_FAV_PATH)) {
-            setFavSession(path.substring((WearableConstants.CHANNEL_ID + WearableConstants.SESSION_SET_FAV_PATH).length() + 1), 
-                    Boolean.parseBoolean(data), (Consumer<boolean[]>) dataHandler);
-        } else if (path.startsWith(WearableConstants.CHANNEL_ID + WearableConstants.SESSION_FAV_PATH)) {
-            sendFavSession(data, (Consumer<boolean[]>) dataHandler);
-        } else if (path.startsWith(WearableConstants.CHANNEL_ID + WearableConstants.SPEAKERS_PATH)) {
-            sendSpeakers(data, (Consumer<List<WearSpeaker>>) dataHandler);
-        } else if (path.startsWith(WearableConstants.CHANNEL_ID + WearableConstants.TWITTER_PATH)) {
-            followOnTwitter(data);
-        } else if (path.startsWith(WearableConstants.CHANNEL_ID + WearableConstants.SESSION_SUMMARY_PATH)) {
-            sendSummary(data, (Consumer<String>) dataHandler);
-        } else if (path.startsWith(WearableConstants.CHANNEL_ID + WearableConstants.OPEN_MOBILE_PATH)) {
-            openMobile(data);
-        } 
-        
+            sessionsIndexValid = true;
+        }
+        return sessionsBySlotId.get(slotId);
     }
 
     @Override
@@ -132,17 +266,10 @@ public class DesktopWearableService implements WearableService {
     }
 
     private void sendConferences(Consumer<List<Conference>> dataHandler) {
-        if (service.readyProperty().get()) {
-            // store the list schedules
-            doGetConferences(dataHandler);
-        } else {
-            service.readyProperty().addListener((obs, ov, nv) -> {
-                // store the list schedules
-                doGetConferences(dataHandler);
-            });
-        }
-        
+        // store the list schedules
+        whenReady(() -> doGetConferences(dataHandler));
     }
+
     private void doGetConferences(Consumer<List<Conference>> dataHandler) {
         List<Conference> conferencesList = new ArrayList<>();
         for (Conference conference : service.retrieveConferences()) {
@@ -163,77 +290,94 @@ public class DesktopWearableService implements WearableService {
         }
     }
 
-    private void sendSessions(int day, Consumer<List<Session>> dataHandler) {
-        Conference conference = service.getConference();
-        List<Session> sessionsList = new ArrayList<>();
-        for (Session session : service.retrieveSessions()) {
-            if (conference.getConferenceDayIndex(session.getStartDate()) == day) {
+    /**
+     * Sends the digest of the sessions of a conference day, or a not modified
+     * response if the wearable has the current version
+     * @param path the path of the request, optionally ending with "/" and the version cached by the wearable
+     * @param data the day
+     * @param dataHandler the handler of the response
+     */
+    private void sendSessions(String path, String data, Consumer<SessionsDigest> dataHandler) {
+        final int day = Integer.parseInt(data);
+        final String dayPath = WearableConstants.CHANNEL_ID + WearableConstants.SESSIONS_PATH + "/" + data;
+        final String cachedVersion = path.startsWith(dayPath + "/") ? path.substring(dayPath.length() + 1) : null;
+
+        SessionsDigest digest = getSessionsDigests().get(day);
+        if (digest == null) {
+            digest = new SessionsDigest(getDigestVersion(new ArrayList<>()), new ArrayList<>());
+        }
+        final SessionsDigest response = digest.getVersion().equals(cachedVersion) ?
+                SessionsDigest.notModified(digest.getVersion()) : digest;
+        if (dataHandler != null) {
+            Platform.runLater(() -> dataHandler.accept(response));
+        }
+    }
+
+    private Map<Integer, SessionsDigest> getSessionsDigests() {
+        if (sessionsDigests == null) {
+            Conference conference = service.getConference();
+            Map<Integer, List<Session>> sessionsByDay = new HashMap<>();
+            for (Session session : service.retrieveSessions()) {
                 Session s = new Session();
                 s.setRoomName(session.getRoomName());
                 s.setSlotId(session.getSlotId());
-                s.setDay(session.getDay());
                 Talk talk = new Talk();
                 talk.setTitle(session.getTitle());
-                talk.setSummary(session.getSummary());
                 s.setTalk(talk);
                 s.setFromTime(session.getFromTime());
                 s.setToTime(session.getToTime());
 
-                sessionsList.add(s);
+                sessionsByDay.computeIfAbsent(conference.getConferenceDayIndex(session.getStartDate()), d -> new ArrayList<>()).add(s);
+            }
+            sessionsDigests = new HashMap<>();
+            for (Map.Entry<Integer, List<Session>> entry : sessionsByDay.entrySet()) {
+                sessionsDigests.put(entry.getKey(), new SessionsDigest(getDigestVersion(entry.getValue()), entry.getValue()));
             }
         }
-        if (dataHandler != null) {
-            Platform.runLater(() -> dataHandler.accept(sessionsList));
+        return sessionsDigests;
+    }
+
+    /**
+     * The version only depends on the content of the digest, so it doesn't
+     * change when the same schedule is loaded again
+     */
+    private static String getDigestVersion(List<Session> sessions) {
+        StringBuilder content = new StringBuilder();
+        for (Session session : sessions) {
+            content.append(session.getSlotId()).append('\0')
+                    .append(session.getRoomName()).append('\0')
+                    .append(session.getFromTime()).append('\0')
+                    .append(session.getToTime()).append('\0')
+                    .append(session.getTitle()).append('\0');
         }
+        return Integer.toHexString(content.toString().hashCode()) + "-" + sessions.size();
     }
 
     private void setFavSession(String sessionSlotId, boolean fav, Consumer<boolean[]> dataHandler) {
-        if (service.readyProperty().get()) {
-                doSetFavSession(sessionSlotId, fav, dataHandler);
-        } else {
-            service.readyProperty().addListener((obs, ov, nv) -> {
-                doSetFavSession(sessionSlotId, fav, dataHandler);
-            });
-        } 
+        whenReady(() -> doSetFavSession(sessionSlotId, fav, dataHandler));
     }
     
     private void doSetFavSession(String sessionSlotId, boolean fav, Consumer<boolean[]> dataHandler) {
         if (service.isAuthenticated()) {
-            for (Session session : service.retrieveSessions()) {
-                if (session.getSlotId().equals(sessionSlotId)) {
-                    if (fav) {
-                        service.retrieveFavoredSessions().add(session);
-                    } else {
-                        service.retrieveFavoredSessions().remove(session);
-                    }
-                    sendFavSession(sessionSlotId, dataHandler);
-                    break;
+            Session session = findSessionBySlotId(sessionSlotId);
+            if (session != null) {
+                if (fav) {
+                    service.retrieveFavoredSessions().add(session);
+                } else {
+                    service.retrieveFavoredSessions().remove(session);
                 }
+                sendFavSession(sessionSlotId, dataHandler);
             }
         }
     }
 
     private void sendFavSession(String sessionSlotId, Consumer<boolean[]> dataHandler) {
-        if (service.readyProperty().get()) {
-            doSendFavSession(sessionSlotId, dataHandler);
-        } else {
-            service.readyProperty().addListener((obs, ov, nv) -> {
-                doSendFavSession(sessionSlotId, dataHandler);
-            });
-        }
+        whenReady(() -> doSendFavSession(sessionSlotId, dataHandler));
     }
     
-    private boolean found;
     private void doSendFavSession(String sessionSlotId, Consumer<boolean[]> dataHandler) {
         if (service.isAuthenticated()) {
-            ObservableList<Session> retrieveFavoredSessions = service.retrieveFavoredSessions();
-            found = false;
-            for (Session s : retrieveFavoredSessions) {
-                if (s.getSlotId().equalsIgnoreCase(sessionSlotId)) {
-                    found = true;
-                    break;
-                }
-            }
+            final boolean found = isFavored(sessionSlotId);
             if (dataHandler != null) {
                 Platform.runLater(() -> dataHandler.accept(new boolean[] {false, found}));
             }
@@ -245,111 +389,198 @@ public class DesktopWearableService implements WearableService {
         }
     }
 
-    private void sendSpeakers(String sessionSlotId, Consumer<List<WearSpeaker>> dataHandler) {
-        if (service.readyProperty().get()) {
-            getSpeakers(sessionSlotId, dataHandler);
-        } else {
-            service.readyProperty().addListener((obs, ov, nv) -> {
-                getSpeakers(sessionSlotId, dataHandler);
-            });
+    private boolean isFavored(String sessionSlotId) {
+        for (Session s : service.retrieveFavoredSessions()) {
+            if (s.getSlotId().equalsIgnoreCase(sessionSlotId)) {
+                return true;
+            }
         }
+        return false;
+    }
+
+    /**
+     * Answers the summary, favorite state and speakers requests of a session at once
+     */
+    private void sendSessionDetails(String sessionSlotId, Consumer<SessionDetails> dataHandler) {
+        whenReady(() -> {
+            SessionDetails details = new SessionDetails();
+            details.setSlotId(sessionSlotId);
+            Session session = findSessionBySlotId(sessionSlotId);
+            details.setSummary(session != null ? session.getSummary() : "");
+            details.setNoAuth(!service.isAuthenticated());
+            details.setFavorite(service.isAuthenticated() && isFavored(sessionSlotId));
+            getSpeakers(sessionSlotId, speakers -> {
+                details.setSpeakers(speakers);
+                if (dataHandler != null) {
+                    dataHandler.accept(details);
+                }
+            });
+        });
+    }
+
+    private void sendSpeakers(String sessionSlotId, Consumer<List<WearSpeaker>> dataHandler) {
+        whenReady(() -> getSpeakers(sessionSlotId, dataHandler));
     }
 
     private void getSpeakers(String sessionSlotId, Consumer<List<WearSpeaker>> dataHandler) {
         ArrayList<String> speakersUUID = new ArrayList<>();
          
-        for (Session session : service.retrieveSessions()) {
-                
-            if (session.getSlotId().equals(sessionSlotId)) {
-                
-                for (TalkSpeaker talkSpeaker : session.getTalk().getSpeakers()) {
-                    Link link = talkSpeaker.getLink();
-                    if (link != null && link.getHref() != null && !link.getHref().isEmpty()) {
-                        String speakerUUID = link.getHref().substring(link.getHref().lastIndexOf('/') + 1);
-                        speakersUUID.add(speakerUUID);
-                    }
+        Session session = findSessionBySlotId(sessionSlotId);
+        if (session != null && session.getTalk() != null) {
+            for (TalkSpeaker talkSpeaker : session.getTalk().getSpeakers()) {
+                String speakerUUID = talkSpeaker.getSpeakerUuid();
+                if (speakerUUID != null) {
+                    speakersUUID.add(speakerUUID);
                 }
-                break;
             }
         }
         
-        List<WearSpeaker> speakersList = new ArrayList<>();
-
         LOG.log(Level.INFO, String.format("Retrieving %d speakers", speakersUUID.size()));
-        CountDownLatch fillSpeakersCountDownLatch = new CountDownLatch(speakersUUID.size());
-        final AtomicInteger processed = new AtomicInteger(0);
-        new Thread(() -> {
-            try {
-                boolean ok = fillSpeakersCountDownLatch.await(10, TimeUnit.SECONDS);
-                if (ok && processed.get() == speakersUUID.size()) {
-                    Platform.runLater(() -> dataHandler.accept(speakersList));
-                } else {
-                    LOG.log(Level.WARNING, "There was an error retrieving speakers");
-                }
-            } catch (InterruptedException ex) {
-                LOG.log(Level.SEVERE, "Error retrieving speakers", ex);
-            }
-        }).start();
-        
+
+        // one future per speaker, in the order of the talk
+        List<CompletableFuture<WearSpeaker>> speakerFutures = new ArrayList<>();
         for (String uuid : speakersUUID) {
-            new Thread(() -> {
-                ReadOnlyObjectProperty<Speaker> speaker = service.retrieveSpeaker(uuid);
-                if (speaker.get() != null) {
-                    speakersList.add(getSpeaker(speaker.get()));
-                    processed.getAndIncrement();
-                    fillSpeakersCountDownLatch.countDown();
-                } else {
-                    speaker.addListener((obs, ov, nv) -> {
-                        speakersList.add(getSpeaker(speaker.get()));
-                        processed.getAndIncrement();
-                        fillSpeakersCountDownLatch.countDown();
-                    });
+            speakerFutures.add(fetchSpeaker(uuid));
+        }
+
+        // speakers that are not retrieved in time are skipped
+        PauseTransition timeout = new PauseTransition(Duration.seconds(SPEAKERS_TIME_OUT));
+        timeout.setOnFinished(e -> speakerFutures.forEach(future -> future.complete(null)));
+        timeout.play();
+
+        CompletableFuture.allOf(speakerFutures.toArray(new CompletableFuture[0]))
+                .thenApply(v -> speakerFutures.stream()
+                        .map(CompletableFuture::join)
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toList()))
+                .whenComplete((speakersList, throwable) -> Platform.runLater(() -> {
+                    timeout.stop();
+                    if (throwable != null) {
+                        LOG.log(Level.WARNING, "There was an error retrieving speakers", throwable);
+                    } else {
+                        if (speakersList.size() < speakersUUID.size()) {
+                            LOG.log(Level.WARNING, String.format("Only %d of %d speakers were retrieved", speakersList.size(), speakersUUID.size()));
+                        }
+                        if (dataHandler != null) {
+                            dataHandler.accept(speakersList);
+                        }
+                    }
+                }));
+    }
+
+    /**
+     * Retrieves the speaker and its picture. Both are provided by the service and the
+     * ImageCache, on the JavaFX thread, while the WearSpeaker is built on the speakers executor
+     * @param uuid the uuid of the speaker
+     * @return a future with the WearSpeaker
+     */
+    private CompletableFuture<WearSpeaker> fetchSpeaker(String uuid) {
+        CompletableFuture<Speaker> speakerFuture = new CompletableFuture<>();
+        ReadOnlyObjectProperty<Speaker> speaker = service.retrieveSpeaker(uuid);
+        if (speaker.get() != null) {
+            speakerFuture.complete(speaker.get());
+        } else {
+            speaker.addListener(new ChangeListener<Speaker>() {
+                @Override
+                public void changed(ObservableValue<? extends Speaker> obs, Speaker ov, Speaker nv) {
+                    if (nv != null) {
+                        speaker.removeListener(this);
+                        speakerFuture.complete(nv);
+                    }
                 }
-            }).start();
+            });
         }
+        return speakerFuture.thenCompose(s -> fetchImage(s.getPicture())
+                .thenApplyAsync(image -> getSpeaker(s, image), SPEAKERS_EXECUTOR));
     }
-    
-    private WearSpeaker getSpeaker(Speaker speaker) {
+
+    private CompletableFuture<Image> fetchImage(String picture) {
+        CompletableFuture<Image> imageFuture = new CompletableFuture<>();
+        if (picture == null || picture.isEmpty()) {
+            imageFuture.complete(null);
+        } else {
+            // returns the cached image, or null and downloads it
+            Image image = ImageCache.get(picture, () -> null, imageFuture::complete);
+            if (image != null) {
+                imageFuture.complete(image);
+            }
+        }
+        return imageFuture;
+    }
+
+    private WearSpeaker getSpeaker(Speaker speaker, Image image) {
         WearSpeaker wearSpeaker = new WearSpeaker();
         Speaker s = new Speaker();
         s.setFirstName(speaker.getFirstName());
         s.setLastName(speaker.getLastName());
         s.setTwitter(speaker.getTwitter());
         wearSpeaker.setSpeaker(s);
-        try {
-            InputStream is;
-            if (speaker.getPicture() == null || speaker.getPicture().isEmpty()) {
-                is = Util.class.getResourceAsStream("speaker.jpeg");
-            } else {
-                is = new URL(speaker.getPicture()).openStream();
-            } 
-            wearSpeaker.setImage(new Image(is, 64, 64, true, false));
-        } catch (IOException ex) { }
+
+        // phone side: the image is sent as an asset, pre-sized and keyed by its hash
+        String hash = null;
+        if (image != null) {
+            hash = imageHashes.computeIfAbsent(speaker.getPicture(), picture -> {
+                byte[] bytes = encode(image);
+                return bytes != null ? assetChannel.putAsset(bytes) : null;
+            });
+        }
+
+        // wearable side: the asset is only read if its hash is not cached
+        Image wearImage = null;
+        if (hash != null) {
+            final String assetHash = hash;
+            wearImage = SpeakerImageCache.get(assetHash, () -> assetChannel.openAsset(assetHash));
+        }
+        wearSpeaker.setImage(wearImage != null ? wearImage : getDefaultImage());
         return wearSpeaker;
     }
+
+    /**
+     * Scales the image down to the size used on the wearable, and encodes it as png
+     * @param image the speaker image
+     * @return the png bytes, or null if the image can't be encoded
+     */
+    private static byte[] encode(Image image) {
+        BufferedImage source = SwingFXUtils.fromFXImage(image, null);
+        if (source == null) {
+            return null;
+        }
+        double scale = Math.min(1d, (double) SpeakerImageCache.IMAGE_SIZE / Math.max(source.getWidth(), source.getHeight()));
+        int width = Math.max(1, (int) Math.round(source.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(source.getHeight() * scale));
+        BufferedImage scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = scaled.createGraphics();
+        graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        graphics.drawImage(source, 0, 0, width, height, null);
+        graphics.dispose();
+        try (ByteArrayOutputStream os = new ByteArrayOutputStream()) {
+            ImageIO.write(scaled, "png", os);
+            return os.toByteArray();
+        } catch (IOException ex) {
+            LOG.log(Level.WARNING, "Error encoding speaker image", ex);
+            return null;
+        }
+    }
+
+    private static synchronized Image getDefaultImage() {
+        if (defaultImage == null) {
+            defaultImage = new Image(Util.class.getResourceAsStream("speaker.jpeg"), 64, 64, true, false);
+        }
+        return defaultImage;
+    }
     
     private void followOnTwitter(String data) {
         // Not available
     }
 
     private void sendSummary(String sessionSlotId, Consumer<String> dataHandler) {
-        if (service.readyProperty().get()) {
-            getSessionSummary(sessionSlotId, dataHandler);
-        } else {
-            service.readyProperty().addListener((obs, ov, nv) -> {
-                getSessionSummary(sessionSlotId, dataHandler);
-            });
-        }
+        whenReady(() -> getSessionSummary(sessionSlotId, dataHandler));
     }
 
     private void getSessionSummary(String sessionSlotId, Consumer<String> dataHandler) {
-        for (Session session : service.retrieveSessions()) {
-            if (session.getSlotId().equals(sessionSlotId)) {
-                if (dataHandler != null) {
-                    Platform.runLater(() -> dataHandler.accept(session.getSummary()));
-                }
-                break;
-            }
+        Session session = findSessionBySlotId(sessionSlotId);
+        if (session != null && dataHandler != null) {
+            Platform.runLater(() -> dataHandler.accept(session.getSummary()));
         }
     }
 
@@ -0,0 +1,71 @@
+/**
+ * Copyright (c) 2017, Gluon Software
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the
+ * following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation and/or other materials provided
+ *    with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse
+ *    or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES,
+ * INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.devoxx.model;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Compact list of the sessions of a conference day, as sent to the wearable:
+ * slot id, room, times and title. The version changes only when any of these do.
+ */
+public class SessionsDigest {
+
+    private final String version;
+    private final List<Session> sessions;
+    private final boolean notModified;
+
+    public SessionsDigest(String version, List<Session> sessions) {
+        this(version, sessions, false);
+    }
+
+    private SessionsDigest(String version, List<Session> sessions, boolean notModified) {
+        this.version = version;
+        this.sessions = sessions;
+        this.notModified = notModified;
+    }
+
+    /**
+     * Response to a request with a version that is still current
+     * @param version the current version
+     * @return a digest without sessions
+     */
+    public static SessionsDigest notModified(String version) {
+        return new SessionsDigest(version, Collections.emptyList(), true);
+    }
+
+    public String getVersion() {
+        return version;
+    }
+
+    public List<Session> getSessions() {
+        return sessions;
+    }
+
+    public boolean isNotModified() {
+        return notModified;
+    }
+}
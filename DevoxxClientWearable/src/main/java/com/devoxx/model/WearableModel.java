@@ -37,6 +37,8 @@ public class WearableModel {
     private Conference selectedConference;
     
     private Session selectedSession;
+
+    private SessionDetails sessionDetails;
     
     private int selectedDay;
     
@@ -89,4 +91,20 @@ public class WearableModel {
         this.selectedSession = selectedSession;
     }
 
+    /**
+     * Returns the details retrieved for the selected session
+     * @return the details, or null if they are not available yet
+     */
+    public SessionDetails getSessionDetails() {
+        if (sessionDetails != null && selectedSession != null &&
+                selectedSession.getSlotId().equals(sessionDetails.getSlotId())) {
+            return sessionDetails;
+        }
+        return null;
+    }
+
+    public void setSessionDetails(SessionDetails sessionDetails) {
+        this.sessionDetails = sessionDetails;
+    }
+
 }
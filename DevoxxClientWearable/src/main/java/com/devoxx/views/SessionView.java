@@ -30,6 +30,7 @@ import com.gluonhq.charm.glisten.animation.BounceInRightTransition;
 import com.gluonhq.charm.glisten.control.AppBar;
 import com.gluonhq.charm.glisten.mvc.View;
 import com.devoxx.model.Session;
+import com.devoxx.model.SessionDetails;
 import com.devoxx.model.WearableModel;
 import com.devoxx.util.WearableConstants;
 import com.devoxx.views.helper.WearUtils;
@@ -82,6 +83,11 @@ public class SessionView extends View {
                                 no_auth = result[0];
                                 fav = result[1];
                                 favIcon.setContent(fav ? MaterialDesignIcon.FAVORITE : MaterialDesignIcon.FAVORITE_BORDER);
+                                SessionDetails details = WearableModel.getInstance().getSessionDetails();
+                                if (details != null) {
+                                    details.setNoAuth(no_auth);
+                                    details.setFavorite(fav);
+                                }
                             });
                 });
             } else {
@@ -159,16 +165,38 @@ public class SessionView extends View {
     private void getSessionData() {
         Services.get(WearableService.class).ifPresent(service -> {
             setMouseTransparent(true);
-            service.sendMessage(WearableConstants.CHANNEL_ID + WearableConstants.SESSION_FAV_PATH + "/" + session.getSlotId(), 
-                    session.getSlotId(), 
+            // details of the previous session can't be used by the next views
+            WearableModel.getInstance().setSessionDetails(null);
+            final String slotId = session.getSlotId();
+            service.sendMessage(WearableConstants.CHANNEL_ID + WearableConstants.SESSION_FAV_PATH + "/" + slotId, 
+                    slotId, 
                     (boolean[] result) -> {
-                        no_auth = result[0];
-                        fav = result[1];
-                        if (!no_auth) {
-                            favIcon.setContent(fav ? MaterialDesignIcon.FAVORITE : MaterialDesignIcon.FAVORITE_BORDER);
+                        if (slotId.equals(session.getSlotId())) {
+                            updateFavorite(result[0], result[1]);
                         }
-                        setMouseTransparent(false);
+                    });
+            // mobiles that answer the bundled request send the summary and speakers 
+            // as well, for the next views. Otherwise, those views send their own requests
+            service.sendMessage(WearableConstants.CHANNEL_ID + WearableConstants.SESSION_DETAILS_PATH + "/" + slotId, 
+                    slotId, 
+                    (SessionDetails details) -> {
+                        // a late response may belong to a previously opened session
+                        if (!slotId.equals(session.getSlotId()) || 
+                                (details.getSlotId() != null && !details.getSlotId().isEmpty() && !slotId.equals(details.getSlotId()))) {
+                            return;
+                        }
+                        WearableModel.getInstance().setSessionDetails(details);
+                        updateFavorite(details.isNoAuth(), details.isFavorite());
                     });
         });
     }
+
+    private void updateFavorite(boolean noAuth, boolean favorite) {
+        no_auth = noAuth;
+        fav = favorite;
+        if (!no_auth) {
+            favIcon.setContent(fav ? MaterialDesignIcon.FAVORITE : MaterialDesignIcon.FAVORITE_BORDER);
+        }
+        setMouseTransparent(false);
+    }
 }
@@ -27,8 +27,10 @@ package com.devoxx.views;
 
 import static com.devoxx.GluonWearable.SESSION_VIEW;
 import com.devoxx.model.Session;
+import com.devoxx.model.SessionsDigest;
 import com.devoxx.model.WearableModel;
 import com.devoxx.util.WearableConstants;
+import com.devoxx.views.helper.SessionsDigestCache;
 import com.devoxx.views.helper.WearUtils;
 import com.gluonhq.charm.down.Services;
 import com.gluonhq.charm.down.plugins.WearableService;
@@ -164,17 +166,38 @@ public class SessionsView extends View {
         final int selectedDay = WearableModel.getInstance().getSelectedDay();
         ZonedDateTime zonedDay = WearableModel.getInstance().getSelectedConference().getDays()[selectedDay -1];
         day.setText(zonedDay.getDayOfWeek().getDisplayName(TextStyle.FULL, Locale.getDefault()));
+        final String conferenceId = WearableModel.getInstance().getSelectedConference().getId();
+        final SessionsDigest cached = SessionsDigestCache.get(conferenceId, selectedDay);
+        if (cached != null) {
+            showSessions(cached.getSessions());
+        }
         Services.get(WearableService.class).ifPresent(service -> {
-            setMouseTransparent(true);
-            service.sendMessage(WearableConstants.CHANNEL_ID + WearableConstants.SESSIONS_PATH + "/" + selectedDay, 
-                    String.valueOf(selectedDay), 
-                    (List<Session> p) -> {
-                        WearableModel.getInstance().setSessions(p);
-                        listView.setItems(FXCollections.observableArrayList(p));
-                        Platform.runLater(() -> listView.scrollTo(p.get(0)));
+            // without cached sessions, wait for them
+            setMouseTransparent(cached == null);
+            // the cached version is sent as an extra path segment, ignored by mobiles that
+            // don't support digests, so the sessions are only transferred if they changed
+            service.sendMessage(WearableConstants.CHANNEL_ID + WearableConstants.SESSIONS_PATH + "/" + selectedDay +
+                            (cached != null ? "/" + cached.getVersion() : ""),
+                    String.valueOf(selectedDay),
+                    (SessionsDigest digest) -> {
+                        if (!digest.isNotModified()) {
+                            // only digests, that come with a version, can be revalidated later on
+                            if (!digest.getVersion().isEmpty()) {
+                                SessionsDigestCache.put(conferenceId, selectedDay, digest);
+                            }
+                            showSessions(digest.getSessions());
+                        }
                         setMouseTransparent(false);
             });
         });
     }
+
+    private void showSessions(List<Session> sessions) {
+        WearableModel.getInstance().setSessions(sessions);
+        listView.setItems(FXCollections.observableArrayList(sessions));
+        if (!sessions.isEmpty()) {
+            Platform.runLater(() -> listView.scrollTo(sessions.get(0)));
+        }
+    }
     
 }
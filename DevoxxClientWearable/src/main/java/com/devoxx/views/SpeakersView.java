@@ -29,6 +29,7 @@ import com.devoxx.GluonWearable;
 import com.gluonhq.charm.glisten.animation.BounceInRightTransition;
 import com.gluonhq.charm.glisten.control.AppBar;
 import com.gluonhq.charm.glisten.mvc.View;
+import com.devoxx.model.SessionDetails;
 import com.devoxx.model.WearSpeaker;
 import com.devoxx.model.WearableModel;
 import com.devoxx.util.WearableConstants;
@@ -95,7 +96,12 @@ public class SpeakersView extends View {
             label.setMaxWidth(maxWidth - 58);
             vBox.getChildren().setAll(label);
             
-            getSpeakersData(WearableModel.getInstance().getSelectedSession().getSlotId());
+            SessionDetails details = WearableModel.getInstance().getSessionDetails();
+            if (details != null && details.getSpeakers() != null) {
+                showSpeakers(details.getSpeakers());
+            } else {
+                getSpeakersData(WearableModel.getInstance().getSelectedSession().getSlotId());
+            }
         });
     }
     
@@ -147,13 +153,17 @@ public class SpeakersView extends View {
             service.sendMessage(WearableConstants.CHANNEL_ID + WearableConstants.SPEAKERS_PATH + "/" + sessionSlotId, 
                     sessionSlotId, 
                     (List<WearSpeaker> s) -> {
-                        vBox.getChildren().clear();
-                        for (WearSpeaker speaker : s) {
-                            vBox.getChildren().add(createSpeaker(speaker));
-                        }
-                        pane.setVvalue(0);
+                        showSpeakers(s);
                         setMouseTransparent(false);
                     });
         });
     }
+
+    private void showSpeakers(List<WearSpeaker> speakers) {
+        vBox.getChildren().clear();
+        for (WearSpeaker speaker : speakers) {
+            vBox.getChildren().add(createSpeaker(speaker));
+        }
+        pane.setVvalue(0);
+    }
 }
@@ -26,6 +26,7 @@
 package com.devoxx.views;
 
 import com.devoxx.model.Session;
+import com.devoxx.model.SessionDetails;
 import com.gluonhq.charm.glisten.animation.BounceInRightTransition;
 import com.gluonhq.charm.glisten.control.AppBar;
 import com.gluonhq.charm.glisten.mvc.View;
@@ -91,7 +92,13 @@ public class SummaryView extends View {
         setOnShowing(e -> {
             final Session selectedSession = WearableModel.getInstance().getSelectedSession();
             title.setText(selectedSession.getTitle());
-            getSessionData(selectedSession.getSlotId());
+            SessionDetails details = WearableModel.getInstance().getSessionDetails();
+            if (details != null) {
+                summary.setText(details.getSummary());
+                pane.setVvalue(0);
+            } else {
+                getSessionData(selectedSession.getSlotId());
+            }
         });
     }
     
@@ -0,0 +1,171 @@
+/**
+ * Copyright (c) 2017, Gluon Software
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the
+ * following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation and/or other materials provided
+ *    with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse
+ *    or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES,
+ * INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.devoxx.views.helper;
+
+import com.devoxx.model.Session;
+import com.devoxx.model.SessionsDigest;
+import com.devoxx.model.Talk;
+import com.gluonhq.charm.down.Services;
+import com.gluonhq.charm.down.plugins.StorageService;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Keeps on the wearable the session digests of each conference day, so they can be
+ * shown right away and revalidated with their version, instead of being transferred
+ * from the mobile every time a day is selected
+ */
+public class SessionsDigestCache {
+
+    private static final Logger LOG = Logger.getLogger(SessionsDigestCache.class.getName());
+
+    private static final int FORMAT = 1;
+
+    private static final Map<String, SessionsDigest> memoryCache = new HashMap<>();
+
+    private static final ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = Executors.defaultThreadFactory().newThread(r);
+        thread.setName("SessionsDigestCacheThread");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private static final Optional<File> digestStore = Services.get(StorageService.class)
+            .flatMap(StorageService::getPrivateStorage)
+            .map(root -> {
+                File dir = new File(root, "sessions-digests");
+                dir.mkdir();
+                return dir;
+            });
+
+    /**
+     * Returns the cached digest of a conference day
+     * @param conferenceId the id of the conference
+     * @param day the conference day, starting from 1
+     * @return the digest, or null if it is not cached
+     */
+    public static SessionsDigest get(String conferenceId, int day) {
+        final String key = getKey(conferenceId, day);
+        SessionsDigest digest = memoryCache.get(key);
+        if (digest == null) {
+            digest = read(key);
+            if (digest != null) {
+                memoryCache.put(key, digest);
+            }
+        }
+        return digest;
+    }
+
+    /**
+     * Caches the digest of a conference day
+     * @param conferenceId the id of the conference
+     * @param day the conference day, starting from 1
+     * @param digest the digest received from the mobile
+     */
+    public static void put(String conferenceId, int day, SessionsDigest digest) {
+        final String key = getKey(conferenceId, day);
+        memoryCache.put(key, digest);
+        executor.execute(() -> write(key, digest));
+    }
+
+    private static String getKey(String conferenceId, int day) {
+        return conferenceId + "_" + day;
+    }
+
+    private static SessionsDigest read(String key) {
+        File file = getFile(key);
+        if (file == null || !file.exists()) {
+            return null;
+        }
+        try (DataInputStream is = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            if (is.readInt() != FORMAT) {
+                return null;
+            }
+            String version = is.readUTF();
+            int size = is.readInt();
+            List<Session> sessions = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                Session session = new Session();
+                session.setSlotId(is.readUTF());
+                session.setRoomName(is.readUTF());
+                session.setFromTime(is.readUTF());
+                session.setToTime(is.readUTF());
+                Talk talk = new Talk();
+                talk.setTitle(is.readUTF());
+                session.setTalk(talk);
+                sessions.add(session);
+            }
+            return new SessionsDigest(version, sessions);
+        } catch (IOException ex) {
+            LOG.log(Level.WARNING, "Error reading sessions digest " + file, ex);
+            return null;
+        }
+    }
+
+    private static void write(String key, SessionsDigest digest) {
+        File file = getFile(key);
+        if (file == null) {
+            return;
+        }
+        try (DataOutputStream os = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+            os.writeInt(FORMAT);
+            os.writeUTF(digest.getVersion());
+            os.writeInt(digest.getSessions().size());
+            for (Session session : digest.getSessions()) {
+                os.writeUTF(safeStr(session.getSlotId()));
+                os.writeUTF(safeStr(session.getRoomName()));
+                os.writeUTF(safeStr(session.getFromTime()));
+                os.writeUTF(safeStr(session.getToTime()));
+                os.writeUTF(safeStr(session.getTitle()));
+            }
+        } catch (IOException ex) {
+            LOG.log(Level.WARNING, "Error writing sessions digest " + file, ex);
+        }
+    }
+
+    private static String safeStr(String s) {
+        return s == null ? "" : s;
+    }
+
+    private static File getFile(String key) {
+        return digestStore.map(dir -> new File(dir, key)).orElse(null);
+    }
+}
@@ -0,0 +1,179 @@
+/**
+ * Copyright (c) 2017, Gluon Software
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the
+ * following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation and/or other materials provided
+ *    with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse
+ *    or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES,
+ * INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.devoxx.views.helper;
+
+import com.gluonhq.charm.down.Services;
+import com.gluonhq.charm.down.plugins.StorageService;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javafx.scene.image.Image;
+
+/**
+ * Caches the speaker images on the wearable by the hash of their content, so an image
+ * that was already received is not transferred again. Images are kept in memory, and
+ * their bytes in the private storage of the wearable.
+ */
+public class SpeakerImageCache {
+
+    private static final Logger LOG = Logger.getLogger(SpeakerImageCache.class.getName());
+
+    /**
+     * Size in pixels of the speaker images sent to the wearable
+     */
+    public static final int IMAGE_SIZE = 64;
+
+    private static final int MAX_MEMORY_ENTRIES = 32;
+    private static final int BUFFER_SIZE = 4096;
+
+    private static final Map<String, Image> memoryCache = Collections.synchronizedMap(
+            new LinkedHashMap<String, Image>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Image> eldest) {
+                    return size() > MAX_MEMORY_ENTRIES;
+                }
+            });
+
+    private static final Optional<File> imageStore = Services.get(StorageService.class)
+            .flatMap(StorageService::getPrivateStorage)
+            .map(root -> {
+                File dir = new File(root, "speaker-images");
+                dir.mkdir();
+                return dir;
+            });
+
+    /**
+     * Returns the image with the given hash, if it was already received
+     * @param hash the hash of the image bytes
+     * @return the image, or null if it is not cached
+     */
+    public static Image get(String hash) {
+        Image image = memoryCache.get(hash);
+        if (image == null) {
+            File file = getFile(hash);
+            if (file != null && file.exists()) {
+                try (FileInputStream is = new FileInputStream(file)) {
+                    image = decode(readAll(is));
+                    memoryCache.put(hash, image);
+                } catch (IOException ex) {
+                    LOG.log(Level.WARNING, "Error reading speaker image " + file, ex);
+                }
+            }
+        }
+        return image;
+    }
+
+    /**
+     * Returns the image with the given hash. If it is not cached, its bytes are read from
+     * the given source and cached. This call may block, so it shouldn't be done on the
+     * JavaFX thread.
+     * @param hash the hash of the image bytes
+     * @param source a supplier of the image bytes, that may return null
+     * @return the image, or null if it is not cached and can't be read
+     */
+    public static Image get(String hash, Supplier<InputStream> source) {
+        Image image = get(hash);
+        if (image != null) {
+            return image;
+        }
+        try (InputStream is = source.get()) {
+            if (is == null) {
+                return null;
+            }
+            byte[] bytes = readAll(is);
+            if (!hash.equals(hashOf(bytes))) {
+                LOG.log(Level.WARNING, "Speaker image doesn't match its hash " + hash);
+                return null;
+            }
+            image = decode(bytes);
+            memoryCache.put(hash, image);
+            store(hash, bytes);
+            return image;
+        } catch (IOException ex) {
+            LOG.log(Level.WARNING, "Error reading speaker image " + hash, ex);
+            return null;
+        }
+    }
+
+    /**
+     * Computes the key of the image bytes
+     * @param bytes the image bytes
+     * @return the SHA-1 of the bytes, in hexadecimal
+     */
+    public static String hashOf(byte[] bytes) {
+        try {
+            StringBuilder hash = new StringBuilder();
+            for (byte b : MessageDigest.getInstance("SHA-1").digest(bytes)) {
+                hash.append(String.format("%02x", b));
+            }
+            return hash.toString();
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static Image decode(byte[] bytes) {
+        return new Image(new ByteArrayInputStream(bytes));
+    }
+
+    private static byte[] readAll(InputStream is) throws IOException {
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        byte[] buffer = new byte[BUFFER_SIZE];
+        int read;
+        while ((read = is.read(buffer)) != -1) {
+            os.write(buffer, 0, read);
+        }
+        return os.toByteArray();
+    }
+
+    private static void store(String hash, byte[] bytes) {
+        File file = getFile(hash);
+        if (file != null && !file.exists()) {
+            try (FileOutputStream os = new FileOutputStream(file)) {
+                os.write(bytes);
+            } catch (IOException ex) {
+                LOG.log(Level.WARNING, "Error storing speaker image " + file, ex);
+            }
+        }
+    }
+
+    private static File getFile(String hash) {
+        return imageStore.map(dir -> new File(dir, hash)).orElse(null);
+    }
+}
@@ -0,0 +1,121 @@
+/**
+ * Copyright (c) 2018, Gluon Software
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the
+ * following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation and/or other materials provided
+ *    with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse
+ *    or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES,
+ * INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.devoxx.serverless.favoritesdelta;
+
+import javax.json.Json;
+import javax.json.JsonArrayBuilder;
+import javax.json.JsonObject;
+import javax.json.JsonReader;
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.client.Client;
+import javax.ws.rs.client.ClientBuilder;
+import javax.ws.rs.core.Response;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Retrieves the favorite counts of all the talks of a conference, and returns only
+ * the counts that changed since the snapshot identified by the version sent by the client.
+ *
+ * Snapshots are kept in memory for as long as the lambda container lives. When the version
+ * sent by the client is unknown (first call, or the container was recycled), the full set
+ * of counts is returned and flagged as such.
+ */
+public class FavoritesDeltaRetriever {
+
+    private static final int MAX_SNAPSHOTS = 32;
+
+    private static final Client client = ClientBuilder.newClient();
+
+    private static final Map<String, Map<String, Integer>> snapshots = Collections.synchronizedMap(
+            new LinkedHashMap<String, Map<String, Integer>>(MAX_SNAPSHOTS, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Map<String, Integer>> eldest) {
+                    return size() > MAX_SNAPSHOTS;
+                }
+            });
+
+    public String retrieve(String cfpEndpoint, String version) throws IOException {
+        Response favorites = client.target(cfpEndpoint).path("favored").path("all")
+                .request().get();
+        if (favorites.getStatus() == Response.Status.OK.getStatusCode()) {
+            Map<String, Integer> counts = new TreeMap<>();
+            try (JsonReader favoritesReader = Json.createReader(new StringReader(favorites.readEntity(String.class)))) {
+                for (JsonObject favorite : favoritesReader.readObject().getJsonArray("favorites").getValuesAs(JsonObject.class)) {
+                    counts.put(favorite.getString("id"), favorite.getInt("favs", 0));
+                }
+            }
+
+            String newVersion = computeVersion(counts);
+            snapshots.put(cfpEndpoint + "|" + newVersion, counts);
+
+            Map<String, Integer> previous = version == null || version.isEmpty() ?
+                    null : snapshots.get(cfpEndpoint + "|" + version);
+
+            JsonArrayBuilder changed = Json.createArrayBuilder();
+            for (Map.Entry<String, Integer> count : counts.entrySet()) {
+                if (previous == null || !count.getValue().equals(previous.get(count.getKey()))) {
+                    changed.add(Json.createObjectBuilder()
+                            .add("id", count.getKey())
+                            .add("favs", count.getValue()));
+                }
+            }
+            return Json.createObjectBuilder()
+                    .add("version", newVersion)
+                    .add("full", previous == null)
+                    .add("favorites", changed)
+                    .build().toString();
+        } else {
+            throw new IOException(new WebApplicationException(favorites));
+        }
+    }
+
+    private static String computeVersion(Map<String, Integer> counts) throws IOException {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-1");
+            for (Map.Entry<String, Integer> count : counts.entrySet()) {
+                digest.update(count.getKey().getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) ':');
+                digest.update(String.valueOf(count.getValue()).getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) ';');
+            }
+            StringBuilder version = new StringBuilder();
+            for (byte b : digest.digest()) {
+                version.append(String.format("%02x", b));
+            }
+            return version.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IOException(e);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+/**
+ * Copyright (c) 2016, Gluon Software
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the
+ * following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation and/or other materials provided
+ *    with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse
+ *    or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES,
+ * INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.devoxx.serverless.retrievesessions;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.RequestStreamHandler;
+
+import javax.json.Json;
+import javax.json.JsonObject;
+import javax.json.JsonReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+public class SessionSlotsLambda implements RequestStreamHandler {
+
+    public void handleRequest(InputStream input, OutputStream output, Context context) throws IOException {
+        try (JsonReader reader = Json.createReader(input)) {
+            JsonObject jsonInput = reader.readObject();
+            String cfpEndpoint = jsonInput.getString("cfpEndpoint");
+            String conferenceId = jsonInput.getString("conferenceId");
+            Set<String> slotIds = Arrays.stream(jsonInput.getString("slotIds").split(","))
+                    .map(String::trim)
+                    .filter(slotId -> !slotId.isEmpty())
+                    .collect(Collectors.toCollection(HashSet::new));
+            String jsonOutput = new SessionsRetriever().retrieve(cfpEndpoint, conferenceId, slotIds);
+            try (Writer writer = new OutputStreamWriter(output)) {
+                writer.write(jsonOutput);
+            }
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        InputStream input = new ByteArrayInputStream("{\"cfpEndpoint\":\"https://dvbe18.confinabox.com/api\",\"conferenceId\":\"dvbe18\",\"slotIds\":\"room8_monday_9:30,room5_monday_9:30\"}".getBytes(StandardCharsets.UTF_8));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        new SessionSlotsLambda().handleRequest(input, output, null);
+        System.out.println("output = " + new String(output.toByteArray(), StandardCharsets.UTF_8));
+    }
+}
@@ -37,6 +37,7 @@ import javax.ws.rs.core.Response;
 import java.io.IOException;
 import java.io.StringReader;
 import java.util.List;
+import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -48,6 +49,18 @@ public class SessionsRetriever {
     private static final Client client = ClientBuilder.newClient();
 
     public String retrieve(String cfpEndpoint, String conferenceId) throws IOException {
+        return retrieve(cfpEndpoint, conferenceId, null);
+    }
+
+    /**
+     * Retrieves the talk and break slots of a conference
+     * @param cfpEndpoint the cfp endpoint
+     * @param conferenceId the id of the conference at the cfp
+     * @param slotIds if not null, only the slots with these ids are returned
+     * @return a json array with the slots
+     * @throws IOException if the schedules can't be retrieved
+     */
+    public String retrieve(String cfpEndpoint, String conferenceId, Set<String> slotIds) throws IOException {
         Response schedules = client.target(cfpEndpoint).path("conferences").path(conferenceId).path("schedules/")
                 .request().get();
         if (schedules.getStatus() == Response.Status.OK.getStatusCode()) {
@@ -65,6 +78,7 @@ public class SessionsRetriever {
                             slotsReader.readObject().getJsonArray("slots").getValuesAs(JsonObject.class).stream()
                                     .filter(slot -> (slot.containsKey("talk") && slot.get("talk").getValueType() == JsonValue.ValueType.OBJECT) ||
                                             (slot.containsKey("break") && slot.get("break").getValueType() == JsonValue.ValueType.OBJECT))
+                                    .filter(slot -> slotIds == null || slotIds.contains(slot.getString("slotId", "")))
                                     .forEach(sessions::add);
                         }
                     } else {